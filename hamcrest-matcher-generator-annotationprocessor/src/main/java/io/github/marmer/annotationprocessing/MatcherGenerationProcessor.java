@@ -42,4 +42,9 @@ public class MatcherGenerationProcessor extends AbstractProcessor {
     public SourceVersion getSupportedSourceVersion() {
         return worker.getSupportedSourceVersion();
     }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return worker.getSupportedOptions();
+    }
 }
@@ -0,0 +1,129 @@
+package io.github.marmer.annotationprocessing
+
+import com.squareup.javapoet.ArrayTypeName
+import com.squareup.javapoet.ClassName
+import com.squareup.javapoet.ParameterizedTypeName
+import com.squareup.javapoet.TypeName
+import com.squareup.javapoet.TypeVariableName
+import com.squareup.javapoet.WildcardTypeName
+import io.github.classgraph.*
+import java.lang.reflect.Modifier
+
+/**
+ * Reads [MatcherModel]s from classes scanned by ClassGraph, the same way [MatcherModelExtractor] reads them from the
+ * javac model. Supertypes of the JDK are not part of the scanned classpath, so their getters are read by reflection.
+ *
+ * Bytecode does not tell in which order nested types and the interfaces of non generic types have been declared, so
+ * they are ordered by name here. Properties are resolved once per type, like [PropertyModelCache] does.
+ */
+class BytecodeMatcherModelExtractor(
+    private val scanResult: ScanResult,
+    private val matcherModelFactory: MatcherModelFactory,
+    private val warn: (String) -> Unit
+) {
+    private val gettersByType = mutableMapOf<String, List<Getter>>()
+
+    fun extract(type: ClassInfo): MatcherModel = matcherModelFactory.create(
+        type = classNameOf(type.name),
+        typeParameterCount = type.typeSignature?.typeParameters?.size ?: 0,
+        properties = transitiveGettersOf(type.name)
+            .distinctBy { it.accessor }
+            .map { it.toProperty() },
+        innerMatchers = type.innerClasses
+            .filter { it.name == "${type.name}$${it.simpleName}" && it.isPublicMember }
+            .map { extract(it) },
+        originatingElements = emptyList()
+    )
+
+    /**
+     * Getters of the type followed by the getters of its superclass and interfaces in depth first order.
+     */
+    private fun transitiveGettersOf(typeName: String): List<Getter> =
+        gettersByType[typeName] ?: computeTransitiveGetters(typeName).also { gettersByType[typeName] = it }
+
+    private fun computeTransitiveGetters(typeName: String): List<Getter> {
+        val declaration = declarationOf(typeName) ?: return emptyList()
+        val getters = LinkedHashSet(declaration.getters)
+        declaration.supertypes.forEach { getters.addAll(transitiveGettersOf(it)) }
+        return getters.toList()
+    }
+
+    private fun declarationOf(typeName: String): TypeDeclaration? =
+        scanResult.getClassInfo(typeName)?.takeIf { it.resource != null }?.toDeclaration()
+            ?: TypeDeclaration.ofJdkClass(typeName)
+            ?: null.also { warn("Properties of '$typeName' are missing, because it is not part of the classpath") }
+
+    private fun ClassInfo.toDeclaration() = TypeDeclaration(
+        getters = declaredMethodInfo
+            .filter { it.isPublic && !it.isStatic && !it.isBridge && !it.isSynthetic && it.parameterInfo.isEmpty() }
+            .map { Getter(it.name, it.typeSignatureOrTypeDescriptor.resultType.toTypeName()) }
+            .filter { it.isPropertyAccessor },
+        supertypes = listOfNotNull(superclassName) + directInterfaceNames
+    )
+
+    private val ClassInfo.superclassName: String?
+        get() = when {
+            isInterfaceOrAnnotation || name == Object::class.java.name -> null
+            else -> superclass?.name ?: Object::class.java.name
+        }
+
+    /**
+     * ClassGraph resolves all interfaces of a type including the inherited ones, but only the generic signature knows
+     * the directly implemented ones in the order of declaration.
+     */
+    private val ClassInfo.directInterfaceNames: List<String>
+        get() = typeSignature?.superinterfaceSignatures?.map { it.fullyQualifiedClassName }
+            ?: (listOfNotNull(superclass) + interfaces)
+                .flatMap { it.interfaces.names }
+                .toSet()
+                .let { inheritedInterfaceNames -> interfaces.names.filter { it !in inheritedInterfaceNames } }
+
+    /**
+     * Protected member classes are public in bytecode, so the modifiers of the nested class declaration are checked.
+     */
+    private val ClassInfo.isPublicMember
+        get() = Modifier.isPublic(modifiers) && !Modifier.isProtected(modifiers)
+
+    private fun TypeSignature.toTypeName(): TypeName =
+        when (this) {
+            is BaseTypeSignature -> TypeName.get(type)
+            is TypeVariableSignature -> TypeVariableName.get(name)
+            is ArrayTypeSignature ->
+                (1..numDimensions).fold(elementTypeSignature.toTypeName()) { componentType, _ ->
+                    ArrayTypeName.of(componentType)
+                }
+            is ClassRefTypeSignature ->
+                suffixes.zip(suffixTypeArguments)
+                    .fold(classNameOf(baseClassName).withTypeArguments(typeArguments)) { type, (suffix, arguments) ->
+                        when (type) {
+                            is ParameterizedTypeName -> type.nestedClass(suffix, arguments.map { it.toTypeName() })
+                            else -> (type as ClassName).nestedClass(suffix).withTypeArguments(arguments)
+                        }
+                    }
+            else -> throw IllegalArgumentException("Unsupported type signature: $this")
+        }
+
+    private fun ClassName.withTypeArguments(typeArguments: List<TypeArgument>): TypeName =
+        if (typeArguments.isEmpty()) this
+        else ParameterizedTypeName.get(this, *typeArguments.map { it.toTypeName() }.toTypedArray())
+
+    private fun TypeArgument.toTypeName(): TypeName =
+        when (wildcard) {
+            TypeArgument.Wildcard.EXTENDS -> WildcardTypeName.subtypeOf(typeSignature.toTypeName())
+            TypeArgument.Wildcard.SUPER -> WildcardTypeName.supertypeOf(typeSignature.toTypeName())
+            TypeArgument.Wildcard.ANY, null -> WildcardTypeName.subtypeOf(Object::class.java)
+            TypeArgument.Wildcard.NONE -> typeSignature.toTypeName()
+        }
+
+    /**
+     * @param binaryName Name of a class like it is used in bytecode, e.g. some.pck.Outer$Inner.
+     */
+    private fun classNameOf(binaryName: String): ClassName {
+        val simpleNames = binaryName.substringAfterLast('.').split('$')
+        return ClassName.get(
+            binaryName.substringBeforeLast('.', ""),
+            simpleNames.first(),
+            *simpleNames.drop(1).toTypedArray()
+        )
+    }
+}
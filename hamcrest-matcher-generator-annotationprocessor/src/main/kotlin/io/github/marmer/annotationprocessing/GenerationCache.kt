@@ -0,0 +1,75 @@
+package io.github.marmer.annotationprocessing
+
+import java.io.IOException
+import java.nio.file.Files
+import java.nio.file.Path
+import java.security.MessageDigest
+import java.util.*
+
+/**
+ * Sources rendered by former builds, stored in a directory (e.g. below target/) together with an index of the hashes of
+ * the models they were rendered from. Sources of unchanged models are reused instead of being rendered again. Only
+ * rendering is skipped, the sources still have to be written by the Filer for each build.
+ *
+ * The hashes cover everything a source is rendered from except of the generation date, so reused sources keep the
+ * date of the build they have actually been rendered in.
+ */
+class GenerationCache(private val directory: Path, private val salt: String) {
+    private val index = Properties()
+
+    init {
+        val indexFile = directory.resolve(INDEX_FILE)
+        if (Files.isRegularFile(indexFile)) {
+            Files.newBufferedReader(indexFile).use { index.load(it) }
+        }
+    }
+
+    /**
+     * @return Source rendered by a former build from the same model or null, if there is none.
+     */
+    @Throws(IOException::class)
+    operator fun get(model: MatcherModel): RenderedMatcher? {
+        val sourceFile = sourceFileOf(model)
+        return if (index.getProperty(model.qualifiedName) == hashOf(model) && Files.isRegularFile(sourceFile))
+            RenderedMatcher(model, Files.readString(sourceFile))
+        else null
+    }
+
+    @Throws(IOException::class)
+    fun put(renderedMatcher: RenderedMatcher) {
+        val model = renderedMatcher.model
+        Files.createDirectories(directory)
+        Files.writeString(sourceFileOf(model), renderedMatcher.source)
+        index.setProperty(model.qualifiedName, hashOf(model))
+    }
+
+    /**
+     * Persists the index, so the next build is able to reuse the sources rendered so far. The salt is written as
+     * comment to show which generator the sources have been rendered by.
+     */
+    @Throws(IOException::class)
+    fun save() {
+        Files.createDirectories(directory)
+        Files.newBufferedWriter(directory.resolve(INDEX_FILE)).use { index.store(it, salt) }
+    }
+
+    private fun sourceFileOf(model: MatcherModel) = directory.resolve("${model.qualifiedName}.java")
+
+    private fun hashOf(model: MatcherModel): String =
+        MessageDigest.getInstance("SHA-256")
+            .digest("$salt\n${model.withoutVolatileParts()}".toByteArray())
+            .joinToString("") { "%02x".format(it) }
+
+    /**
+     * Originating elements do not influence the rendered source and the generation date is not meant to.
+     */
+    private fun MatcherModel.withoutVolatileParts(): MatcherModel = copy(
+        generationTimeStamp = null,
+        originatingElements = emptyList(),
+        innerMatchers = innerMatchers.map { it.withoutVolatileParts() }
+    )
+
+    private companion object {
+        const val INDEX_FILE = "index.properties"
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.marmer.annotationprocessing
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLongArray
+
+/**
+ * Records the time spent in each phase of the generation. Package scanning is recorded per configuration, all other
+ * phases per type. Types rendered in parallel are recorded concurrently. Does nothing at all if it is not enabled.
+ */
+class GenerationProfiler(private val enabled: Boolean) {
+    private val scanningNanos = ConcurrentHashMap<String, Long>()
+    private val typeNanos = ConcurrentHashMap<String, AtomicLongArray>()
+
+    enum class Phase(val jsonName: String) {
+        EXTRACTION("extractionNanos"),
+        RENDERING("renderingNanos"),
+        WRITING("writingNanos")
+    }
+
+    val isEmpty: Boolean
+        get() = scanningNanos.isEmpty() && typeNanos.isEmpty()
+
+    fun <T> scanning(configuration: String, action: () -> T): T =
+        measure(action) { nanos -> scanningNanos.merge(configuration, nanos, Long::plus) }
+
+    fun <T> measure(phase: Phase, type: String, action: () -> T): T =
+        measure(action) { nanos ->
+            typeNanos.computeIfAbsent(type) { AtomicLongArray(Phase.values().size) }
+                .addAndGet(phase.ordinal, nanos)
+        }
+
+    private inline fun <T> measure(action: () -> T, record: (Long) -> Unit): T {
+        if (!enabled) {
+            return action()
+        }
+        val start = System.nanoTime()
+        try {
+            return action()
+        } finally {
+            record(System.nanoTime() - start)
+        }
+    }
+
+    /**
+     * @return Summary of all phases for humans, e.g. to print it as note.
+     */
+    fun toSummary(): String {
+        val totals = totalNanos()
+        return "Matcher generation of ${typeNanos.size} types took ${totals.values.sum().millis} ms (" +
+                totals.entries.joinToString(", ") { (phase, nanos) -> "${phase.removeSuffix("Nanos")} ${nanos.millis} ms" } +
+                ")"
+    }
+
+    /**
+     * @return All recorded times in nanoseconds, sorted by configurations and types.
+     */
+    fun toJson(): String {
+        val scanning = scanningNanos.toSortedMap().entries.joinToString(",\n") { (configuration, nanos) ->
+            "    {\"configuration\": ${configuration.jsonString}, \"scanningNanos\": $nanos}"
+        }
+        val types = typeNanos.toSortedMap().entries.joinToString(",\n") { (type, nanos) ->
+            "    {\"type\": ${type.jsonString}, " +
+                    Phase.values().joinToString(", ") { "\"${it.jsonName}\": ${nanos[it.ordinal]}" } +
+                    "}"
+        }
+        val totals = totalNanos().entries.joinToString(", ") { (phase, nanos) -> "\"$phase\": $nanos" }
+        return "{\n" +
+                "  \"scanning\": [\n$scanning\n  ],\n" +
+                "  \"types\": [\n$types\n  ],\n" +
+                "  \"totals\": {$totals}\n" +
+                "}\n"
+    }
+
+    private fun totalNanos(): Map<String, Long> =
+        mapOf("scanningNanos" to scanningNanos.values.sum()) +
+                Phase.values().associate { phase -> phase.jsonName to typeNanos.values.sumOf { it[phase.ordinal] } }
+
+    private val Long.millis
+        get() = this / 1_000_000
+
+    private val String.jsonString
+        get() = "\"${replace("\\", "\\\\").replace("\"", "\\\"")}\""
+}
@@ -0,0 +1,26 @@
+package io.github.marmer.annotationprocessing
+
+import com.google.devtools.ksp.isPublic
+import com.google.devtools.ksp.symbol.ClassKind
+import com.google.devtools.ksp.symbol.KSClassDeclaration
+
+/**
+ * Reads [MatcherModel]s from Kotlin symbols, the same way [MatcherModelExtractor] reads them from the javac model.
+ * Originating files are tracked by the [MatcherGenerationSymbolProcessor], so the models have no originating elements.
+ */
+class KspMatcherModelExtractor(
+    private val matcherModelFactory: MatcherModelFactory,
+    private val propertyModelCache: KspPropertyModelCache
+) {
+    fun extract(type: KSClassDeclaration): MatcherModel = matcherModelFactory.create(
+        type = type.toClassName(),
+        typeParameterCount = type.typeParameters.size,
+        properties = propertyModelCache.propertiesOf(type),
+        innerMatchers = type.declarations
+            .filterIsInstance<KSClassDeclaration>()
+            .filter { it.isPublic() && it.classKind != ClassKind.ENUM_ENTRY }
+            .map { extract(it) }
+            .toList(),
+        originatingElements = emptyList()
+    )
+}
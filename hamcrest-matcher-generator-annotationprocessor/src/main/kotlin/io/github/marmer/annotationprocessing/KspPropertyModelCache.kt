@@ -0,0 +1,127 @@
+package io.github.marmer.annotationprocessing
+
+import com.google.devtools.ksp.getClassDeclarationByName
+import com.google.devtools.ksp.isPublic
+import com.google.devtools.ksp.processing.Resolver
+import com.google.devtools.ksp.symbol.*
+import com.squareup.javapoet.ClassName
+
+/**
+ * Properties of types read from Kotlin symbols, computed once per type and shared by all configurations of one
+ * processing round, like [PropertyModelCache] does for the javac model. Kotlin properties are read by the getters the
+ * Kotlin compiler generates for them (e.g. getName for name and isActive for isActive), so the matchers are the same as
+ * the ones generated from the Java stubs of kapt.
+ *
+ * Supertypes of the JDK (including the ones Kotlin maps to its own types, like kotlin.Any) are read by reflection.
+ */
+class KspPropertyModelCache(
+    private val resolver: Resolver,
+    private val warn: (String) -> Unit
+) {
+    private val gettersByType = mutableMapOf<String, List<Getter>>()
+
+    fun propertiesOf(type: KSClassDeclaration): List<Property> =
+        transitiveGettersOf(type.toClassName().canonicalName())
+            .distinctBy { it.accessor }
+            .map { it.toProperty() }
+
+    /**
+     * Getters of the type followed by the getters of its superclass and interfaces in depth first order.
+     */
+    private fun transitiveGettersOf(typeName: String): List<Getter> =
+        gettersByType[typeName] ?: computeTransitiveGetters(typeName).also { gettersByType[typeName] = it }
+
+    private fun computeTransitiveGetters(typeName: String): List<Getter> {
+        val declaration = declarationOf(typeName) ?: return emptyList()
+        val getters = LinkedHashSet(declaration.getters)
+        declaration.supertypes.forEach { getters.addAll(transitiveGettersOf(it)) }
+        return getters.toList()
+    }
+
+    private fun declarationOf(typeName: String): TypeDeclaration? =
+        (if (typeName.startsWith("java.")) TypeDeclaration.ofJdkClass(typeName) else null)
+            ?: resolver.getClassDeclarationByName(typeName)?.toDeclaration()
+            ?: null.also { warn("Properties of '$typeName' are missing, because it is not part of the classpath") }
+
+    /**
+     * Properties and functions are read in the order of declaration. Properties of the primary constructor are declared
+     * first, like in the bytecode of the class.
+     */
+    private fun KSClassDeclaration.toDeclaration() = TypeDeclaration(
+        getters = declarationsInSourceOrder
+            .mapNotNull {
+                when (it) {
+                    is KSPropertyDeclaration -> it.toGetter()
+                    is KSFunctionDeclaration -> it.toGetter()
+                    else -> null
+                }
+            }
+            .filter { it.isPropertyAccessor }
+            .toList(),
+        supertypes = supertypeNames
+    )
+
+    private val KSClassDeclaration.declarationsInSourceOrder: List<KSDeclaration>
+        get() {
+            val constructorProperties = primaryConstructor?.parameters.orEmpty()
+                .filter { it.isVal || it.isVar }
+                .mapNotNull { it.name?.asString() }
+                .toSet()
+            val (inConstructor, inBody) = declarations.toList()
+                .partition { it is KSPropertyDeclaration && it.simpleName.asString() in constructorProperties }
+            return inConstructor + inBody
+        }
+
+    /**
+     * Fields of Java classes are symbols of properties as well, but they do not have getters.
+     */
+    private fun KSPropertyDeclaration.toGetter(): Getter? =
+        if (origin in KOTLIN_ORIGINS && isPublic() && extensionReceiver == null && !isJvmField)
+            Getter(jvmGetterName, type.resolve().toTypeName())
+        else null
+
+    private fun KSFunctionDeclaration.toGetter(): Getter? =
+        if (functionKind == FunctionKind.MEMBER && isPublic() && extensionReceiver == null && parameters.isEmpty())
+            returnType?.let { Getter(simpleName.asString(), it.resolve().toTypeName()) }
+        else null
+
+    private val KSPropertyDeclaration.isJvmField
+        get() = annotations.any { it.shortName.asString() == "JvmField" }
+
+    /**
+     * Names of getters are derived by the same rule as the Kotlin compiler does: properties starting with "is" keep
+     * their name, all others are prefixed with "get".
+     */
+    private val KSPropertyDeclaration.jvmGetterName: String
+        get() {
+            val name = simpleName.asString()
+            return if (name.startsWith("is") && name.length > 2 && !name[2].isLowerCase()) name
+            else "get${name.replaceFirstChar { it.uppercase() }}"
+        }
+
+    /**
+     * Superclass first (java.lang.Object for classes without one) followed by the interfaces, like javac orders them.
+     */
+    private val KSClassDeclaration.supertypeNames: List<String>
+        get() {
+            val (classes, interfaces) = superTypes
+                .mapNotNull { it.resolve().classDeclaration }
+                .partition { it.classKind != ClassKind.INTERFACE }
+            val superclass = classes.firstOrNull()?.toClassName()
+                ?: ClassName.OBJECT.takeIf { classKind != ClassKind.INTERFACE && toClassName() != ClassName.OBJECT }
+            return (listOfNotNull(superclass) + interfaces.map { it.toClassName() })
+                .filter { classKind != ClassKind.INTERFACE || it != ClassName.OBJECT }
+                .map { it.canonicalName() }
+        }
+
+    private val KSType.classDeclaration: KSClassDeclaration?
+        get() = when (val declaration = declaration) {
+            is KSClassDeclaration -> declaration
+            is KSTypeAlias -> declaration.type.resolve().classDeclaration
+            else -> null
+        }
+
+    private companion object {
+        val KOTLIN_ORIGINS = setOf(Origin.KOTLIN, Origin.KOTLIN_LIB)
+    }
+}
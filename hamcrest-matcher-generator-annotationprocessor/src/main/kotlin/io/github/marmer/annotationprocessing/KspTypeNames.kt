@@ -0,0 +1,116 @@
+package io.github.marmer.annotationprocessing
+
+import com.google.devtools.ksp.symbol.*
+import com.squareup.javapoet.ArrayTypeName
+import com.squareup.javapoet.ClassName
+import com.squareup.javapoet.ParameterizedTypeName
+import com.squareup.javapoet.TypeName
+import com.squareup.javapoet.TypeVariableName
+import com.squareup.javapoet.WildcardTypeName
+
+/**
+ * JavaPoet types of Kotlin symbols, like they appear in the bytecode javac sees for Kotlin classes (e.g. kotlin.Int as
+ * int or java.lang.Integer if nullable, kotlin.collections.MutableList as java.util.List). Declaration site variance is
+ * not emitted by Kotlin for return types, so only use site variance results in wildcards.
+ */
+internal fun KSType.toTypeName(): TypeName =
+    when (val declaration = declaration) {
+        is KSTypeParameter -> TypeVariableName.get(declaration.name.asString())
+        is KSTypeAlias -> declaration.expand(arguments).let { if (isMarkedNullable) it.makeNullable() else it }.toTypeName()
+        else -> {
+            val qualifiedName = declaration.qualifiedName?.asString()
+            val primitive = PRIMITIVES[qualifiedName]
+            val primitiveArray = PRIMITIVE_ARRAYS[qualifiedName]
+            when {
+                primitive != null -> if (nullability == Nullability.NOT_NULL) primitive else primitive.box()
+                qualifiedName == "kotlin.Array" ->
+                    ArrayTypeName.of(arguments.single().type?.resolve()?.toTypeName()?.box() ?: TypeName.OBJECT)
+                primitiveArray != null -> primitiveArray
+                else -> (declaration as KSClassDeclaration).toClassName().withTypeArguments(arguments)
+            }
+        }
+    }
+
+/**
+ * The aliased type refers to the type parameters of the alias (e.g. java.util.Comparator<T> for kotlin.Comparator<T>),
+ * so they are replaced by the arguments the alias is used with.
+ */
+private fun KSTypeAlias.expand(arguments: List<KSTypeArgument>): KSType {
+    val aliasedType = type.resolve()
+    val argumentsByParameter = typeParameters.map { it.name.asString() }.zip(arguments).toMap()
+    return aliasedType.replace(aliasedType.arguments.map {
+        val parameter = it.type?.resolve()?.declaration as? KSTypeParameter
+        parameter?.let { argumentsByParameter[parameter.name.asString()] } ?: it
+    })
+}
+
+/**
+ * @return Java name of the class, e.g. java.util.Map.Entry for kotlin.collections.Map.Entry.
+ */
+internal fun KSClassDeclaration.toClassName(): ClassName =
+    MAPPED_CLASSES[qualifiedName?.asString()]
+        ?: generateSequence(this) { it.parentDeclaration as? KSClassDeclaration }
+            .map { it.simpleName.asString() }
+            .toList()
+            .reversed()
+            .let { ClassName.get(packageName.asString(), it.first(), *it.drop(1).toTypedArray()) }
+
+private fun ClassName.withTypeArguments(arguments: List<KSTypeArgument>): TypeName =
+    if (arguments.isEmpty()) this
+    else ParameterizedTypeName.get(this, *arguments.map { it.toTypeName() }.toTypedArray())
+
+private fun KSTypeArgument.toTypeName(): TypeName {
+    val argumentType = type?.resolve()?.toTypeName()?.box()
+    return when {
+        variance == Variance.STAR || argumentType == null -> WildcardTypeName.subtypeOf(Object::class.java)
+        variance == Variance.COVARIANT -> WildcardTypeName.subtypeOf(argumentType)
+        variance == Variance.CONTRAVARIANT -> WildcardTypeName.supertypeOf(argumentType)
+        else -> argumentType
+    }
+}
+
+private val PRIMITIVES = mapOf(
+    "kotlin.Boolean" to TypeName.BOOLEAN,
+    "kotlin.Byte" to TypeName.BYTE,
+    "kotlin.Short" to TypeName.SHORT,
+    "kotlin.Int" to TypeName.INT,
+    "kotlin.Long" to TypeName.LONG,
+    "kotlin.Char" to TypeName.CHAR,
+    "kotlin.Float" to TypeName.FLOAT,
+    "kotlin.Double" to TypeName.DOUBLE,
+    "kotlin.Unit" to TypeName.VOID
+)
+
+private val PRIMITIVE_ARRAYS = PRIMITIVES
+    .filterValues { it != TypeName.VOID }
+    .map { (qualifiedName, type) -> "${qualifiedName}Array" to ArrayTypeName.of(type) }
+    .toMap()
+
+private val MAPPED_CLASSES = mapOf(
+    "kotlin.Any" to Any::class.java,
+    "kotlin.Nothing" to Void::class.java,
+    "kotlin.String" to String::class.java,
+    "kotlin.CharSequence" to CharSequence::class.java,
+    "kotlin.Number" to Number::class.java,
+    "kotlin.Comparable" to Comparable::class.java,
+    "kotlin.Enum" to Enum::class.java,
+    "kotlin.Throwable" to Throwable::class.java,
+    "kotlin.Cloneable" to Cloneable::class.java,
+    "kotlin.Annotation" to Annotation::class.java,
+    "kotlin.collections.Iterable" to Iterable::class.java,
+    "kotlin.collections.MutableIterable" to Iterable::class.java,
+    "kotlin.collections.Iterator" to Iterator::class.java,
+    "kotlin.collections.MutableIterator" to Iterator::class.java,
+    "kotlin.collections.ListIterator" to ListIterator::class.java,
+    "kotlin.collections.MutableListIterator" to ListIterator::class.java,
+    "kotlin.collections.Collection" to Collection::class.java,
+    "kotlin.collections.MutableCollection" to Collection::class.java,
+    "kotlin.collections.List" to List::class.java,
+    "kotlin.collections.MutableList" to List::class.java,
+    "kotlin.collections.Set" to Set::class.java,
+    "kotlin.collections.MutableSet" to Set::class.java,
+    "kotlin.collections.Map" to Map::class.java,
+    "kotlin.collections.MutableMap" to Map::class.java,
+    "kotlin.collections.Map.Entry" to Map.Entry::class.java,
+    "kotlin.collections.MutableMap.MutableEntry" to Map.Entry::class.java
+).mapValues { (_, type) -> ClassName.get(type) }
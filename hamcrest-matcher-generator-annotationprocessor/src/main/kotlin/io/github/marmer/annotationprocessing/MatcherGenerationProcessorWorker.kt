@@ -1,60 +1,324 @@
 package io.github.marmer.annotationprocessing
 
+import io.github.classgraph.ClassGraph
+import io.github.marmer.annotationprocessing.GenerationProfiler.Phase
 import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration
+import java.io.IOException
+import java.net.URL
+import java.net.URLClassLoader
+import java.nio.file.Paths
+import java.security.MessageDigest
 import java.time.LocalDateTime
+import java.util.*
+import java.util.stream.Collectors
 import javax.annotation.processing.Generated
 import javax.annotation.processing.ProcessingEnvironment
 import javax.annotation.processing.RoundEnvironment
 import javax.lang.model.SourceVersion
 import javax.lang.model.element.*
 import javax.tools.Diagnostic
+import javax.tools.StandardLocation
 
 class MatcherGenerationProcessorWorker(
     private val timeProvider: () -> LocalDateTime,
     private val processingEnv: ProcessingEnvironment,
     private val generatorName: String
 ) {
+    private val generationTimeStamp = timeStampFor(processingEnv.options[TIMESTAMP_OPTION], timeProvider)
+    private val generationCache = processingEnv.options[CACHE_DIRECTORY_OPTION]?.let { generationCacheIn(it) }
+    private val profiler = GenerationProfiler("true".equals(processingEnv.options[PROFILE_OPTION], ignoreCase = true))
+
     fun getSupportedSourceVersion() = SourceVersion.latestSupported()
 
+    fun getSupportedOptions() = setOf(TIMESTAMP_OPTION, CACHE_DIRECTORY_OPTION, PROFILE_OPTION)
+
     fun process(annotations: Set<TypeElement>, roundEnv: RoundEnvironment): Boolean {
         if (roundEnv.processingOver()) {
+            writeProfilingReport()
             return false
         }
         processingEnv.logNote("Annotation processor for hamcrest matcher generation started")
         return if (annotations.contains<MatcherConfiguration>()) {
-            roundEnv.getElementsAnnotatedWith<MatcherConfiguration>()
-                .forEach { it.generateMatchers() }
+            val propertyModelCache = PropertyModelCache(processingEnv)
+            val configurations = roundEnv.getElementsAnnotatedWith<MatcherConfiguration>()
+            val packageIndex = lazy {
+                PackageIndex(roundEnv.knownPackageNames() + classpathPackageNamesFor(configurations.packagePatterns()))
+            }
+            configurations
+                .flatMap { it.requestMatchers(packageIndex) }
+                .extractMatcherModels(propertyModelCache)
+                .render()
+                .forEach { it.write() }
+            generationCache?.let { cache -> usingGenerationCache { cache.save() } }
             true
         } else {
             false
         }
     }
 
-    private fun Element.generateMatchers() {
-        getAllTypeElementsFor()
-            .forEach {
+    private fun Element.requestMatchers(packageIndex: Lazy<PackageIndex>): List<MatcherRequest> =
+        profiler.scanning(toString()) { getAllTypeElementsFor(packageIndex) }
+            .mapNotNull {
                 if (it.isSelfGenerated()) {
                     it.printSkipNoteBecauseOfSelfGenerationFor()
+                    null
                 } else {
-                    MatcherGenerator(
-                        processingEnv,
-                        it,
-                        timeProvider,
-                        generatorName,
-                        listOf(this),
-                        annotationMirrors.single { it.isTypeOf<MatcherConfiguration>() },
-                        getMatcherConfiguration()
-                    ).generate()
+                    MatcherRequest(it, this)
+                }
+            }
+
+    /**
+     * Types requested by several configurations with the same generation settings are extracted only once for the
+     * whole round and originate from all of these configurations.
+     */
+    private fun List<MatcherRequest>.extractMatcherModels(propertyModelCache: PropertyModelCache): List<MatcherModel> {
+        val extractors = mutableMapOf<Element, MatcherModelExtractor>()
+        return groupBy({ it.target }, { it.configuration })
+            .map { (target, configurations) ->
+                val extractor = extractors.getOrPut(configurations.first()) {
+                    configurations.first().matcherModelExtractor(propertyModelCache)
+                }
+                val model = profiler.measure(Phase.EXTRACTION, target.type.qualifiedName.toString()) {
+                    extractor.extract(target.type, configurations)
                 }
+                model to configurations
+            }
+            .withoutConflictingMatchers()
+    }
+
+    private fun Element.matcherModelExtractor(propertyModelCache: PropertyModelCache) =
+        MatcherModelExtractor(
+            processingEnv,
+            generationTimeStamp,
+            generatorName,
+            annotationMirrors.single { it.isTypeOf<MatcherConfiguration>() },
+            getMatcherConfiguration(),
+            propertyModelCache
+        )
+
+    /**
+     * A matcher can only be generated once. Different generation settings for the same matcher cannot be merged.
+     */
+    private fun List<Pair<MatcherModel, List<Element>>>.withoutConflictingMatchers(): List<MatcherModel> =
+        groupBy { (model, _) -> model.qualifiedName }
+            .values
+            .map { modelsWithSameName ->
+                val (model, configurations) = modelsWithSameName.first()
+                modelsWithSameName.drop(1)
+                    .flatMap { (_, conflictingConfigurations) -> conflictingConfigurations }
+                    .forEach { printConflictingConfigurationError(model.qualifiedName, configurations, it) }
+                model
+            }
+
+    private fun printConflictingConfigurationError(
+        matcherName: String,
+        configurations: List<Element>,
+        conflictingConfiguration: Element
+    ) {
+        conflictingConfiguration.annotationMirrors
+            .filter { it.isTypeOf<MatcherConfiguration>() }
+            .forEach {
+                processingEnv.messager.printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "Generation settings for '$matcherName' conflict with those of ${configurations.joinToString()}",
+                    conflictingConfiguration,
+                    it
+                )
             }
     }
 
-    private fun Element.getAllTypeElementsFor(): List<TypeElement> {
+    private fun List<MatcherModel>.render(): List<RenderedMatcher> {
+        val cache = generationCache ?: return renderInParallel()
+
+        val cachedMatchers = associateWith { usingGenerationCache { cache[it] } }
+        val renderedMatchers = filter { cachedMatchers[it] == null }
+            .renderInParallel()
+            .onEach { usingGenerationCache { cache.put(it) } }
+            .associateBy { it.model }
+
+        return map { cachedMatchers[it] ?: renderedMatchers.getValue(it) }
+    }
+
+    /**
+     * Rendering does not touch the javac model anymore, so it is spread across the common pool. Writing has to be done
+     * by the processing thread again.
+     */
+    private fun List<MatcherModel>.renderInParallel(): List<RenderedMatcher> =
+        parallelStream()
+            .map { profiler.measure(Phase.RENDERING, it.profiledType) { MatcherGenerator(it).generate() } }
+            .collect(Collectors.toList())
+
+    private fun RenderedMatcher.write() =
+        profiler.measure(Phase.WRITING, model.profiledType) {
+            processingEnv.filer
+                .createSourceFile(model.qualifiedName, *model.transitiveOriginatingElements.toTypedArray())
+                .openWriter()
+                .use { it.write(source) }
+        }
+
+    private val MatcherModel.profiledType
+        get() = className.canonicalName()
+
+    private fun writeProfilingReport() {
+        if (profiler.isEmpty) {
+            return
+        }
+        try {
+            val report = processingEnv.filer.createResource(StandardLocation.CLASS_OUTPUT, "", PROFILE_REPORT)
+            report.openWriter().use { it.write(profiler.toJson()) }
+            processingEnv.logNote("${profiler.toSummary()}. Report: ${report.toUri()}")
+        } catch (e: IOException) {
+            processingEnv.messager.printMessage(
+                Diagnostic.Kind.WARNING,
+                "Profiling report $PROFILE_REPORT could not be written: $e"
+            )
+        }
+    }
+
+    /**
+     * Builds which need identical sources for identical inputs (e.g. to hit a build cache) are able to omit the
+     * generation date with [TIMESTAMP_NONE] or to fix it with an ISO-8601 date time.
+     */
+    private fun timeStampFor(option: String?, timeProvider: () -> LocalDateTime): () -> LocalDateTime? =
+        try {
+            StandaloneMatcherGenerator.timeStampFor(option, timeProvider)
+        } catch (e: IllegalArgumentException) {
+            processingEnv.messager.printMessage(Diagnostic.Kind.ERROR, "${e.message} (option $TIMESTAMP_OPTION)")
+            timeProvider
+        }
+
+    /**
+     * Sources are rendered again if the generator or the format of the generation date changes. The version of a
+     * snapshot build does not change with the generator, so the compiled classes shaping the sources are part of the
+     * salt as well.
+     */
+    private fun generationCacheIn(directory: String) = usingGenerationCache {
+        GenerationCache(
+            Paths.get(directory),
+            "$generatorName ${generatorVersion()} ${generatorHash()} ${processingEnv.options[TIMESTAMP_OPTION]}"
+        )
+    }
+
+    private fun generatorVersion() = Properties()
+        .apply {
+            MatcherGenerationProcessorWorker::class.java.getResourceAsStream("generator.properties")?.use { load(it) }
+        }
+        .getProperty("version")
+
+    @Throws(IOException::class)
+    private fun generatorHash(): String {
+        val digest = MessageDigest.getInstance("SHA-256")
+        listOf(
+            MatcherGenerator::class.java,
+            MatcherModelFactory::class.java,
+            MatcherModel::class.java,
+            MatcherPropertyModel::class.java,
+            PrimitivePropertyModel::class.java
+        ).forEach { type ->
+            digest.update(
+                type.getResourceAsStream("${type.simpleName}.class")?.use { it.readAllBytes() }
+                    ?: throw IOException("Class file of ${type.name} not found")
+            )
+        }
+        return digest.digest().joinToString("") { "%02x".format(it) }
+    }
+
+    /**
+     * A broken cache must never break the build, it is just not used then.
+     */
+    private fun <T> usingGenerationCache(action: () -> T): T? =
+        try {
+            action()
+        } catch (e: IOException) {
+            processingEnv.messager.printMessage(
+                Diagnostic.Kind.WARNING,
+                "Generation cache in '${processingEnv.options[CACHE_DIRECTORY_OPTION]}' could not be used: $e"
+            )
+            null
+        }
+
+    private fun Element.getAllTypeElementsFor(packageIndex: Lazy<PackageIndex>): List<TypeElement> {
         return getMatcherConfiguration()
             .value
             .distinct()
-            .flatMap { getAllTypeElementsFor(it, this) }
+            .flatMap {
+                if (PackageIndex.isPattern(it)) getAllTypeElementsForPattern(it, this, packageIndex.value)
+                else getAllTypeElementsFor(it, this)
+            }
+            .distinct()
+    }
+
+    /**
+     * Packages of the compiled sources and all packages of modules javac knows about.
+     */
+    private fun RoundEnvironment.knownPackageNames() =
+        rootElements.map { processingEnv.elementUtils.getPackageOf(it) }
+            .plus(processingEnv.elementUtils.allModuleElements.flatMap { it.enclosedElements })
+            .map { (it as PackageElement).qualifiedName.toString() }
+            .toSet()
+
+    private fun Collection<Element>.packagePatterns() =
+        flatMap { it.getMatcherConfiguration().value.asList() }
+            .filter { PackageIndex.isPattern(it) }
             .distinct()
+
+    /**
+     * Packages which are only located in the classpath are not known to javac before they are looked up by name. So
+     * the classpath the processor has been loaded from (the compile classpath, as long as no separate processor path
+     * is used) and the class output of former compilations (e.g. unchanged types of incremental builds) are scanned
+     * for packages below the fixed part of the patterns. Only packages javac is able to resolve are used later on.
+     */
+    private fun classpathPackageNamesFor(patterns: List<String>): Set<String> {
+        if (patterns.isEmpty()) return emptySet()
+        val patternRoots = patterns.map { pattern ->
+            pattern.split('.').takeWhile { !PackageIndex.isPattern(it) }.joinToString(".")
+        }
+
+        return URLClassLoader(listOfNotNull(classOutputDirectory()).toTypedArray(), null).use { classOutputLoader ->
+            val classGraph = ClassGraph()
+                .overrideClassLoaders(MatcherGenerationProcessorWorker::class.java.classLoader, classOutputLoader)
+            if (patternRoots.none { it.isEmpty() }) {
+                classGraph.acceptPackages(*patternRoots.toTypedArray())
+            }
+            classGraph.scan().use { scanResult ->
+                scanResult.getResourcesWithExtension("class")
+                    .map { it.path.substringBeforeLast('/', "").replace('/', '.') }
+                    .filter { it.isNotEmpty() }
+                    .toSet()
+            }
+        }
+    }
+
+    /**
+     * @return Null, if the class output is not located in the file system (e.g. in memory).
+     */
+    private fun classOutputDirectory(): URL? =
+        try {
+            processingEnv.filer.getResource(StandardLocation.CLASS_OUTPUT, "", CLASS_OUTPUT_PROBE)
+                .toUri()
+                .takeIf { it.scheme == "file" }
+                ?.resolve(".")
+                ?.toURL()
+        } catch (e: IOException) {
+            null
+        } catch (e: IllegalArgumentException) {
+            null
+        }
+
+    private fun getAllTypeElementsForPattern(
+        packagePattern: String,
+        configurationType: Element,
+        packageIndex: PackageIndex
+    ): List<TypeElement> {
+        val typeElementsForPattern = packageIndex.resolve(packagePattern)
+            .flatMap { processingEnv.elementUtils.getAllPackageElements(it) }
+            .flatMap { it.enclosedElements }
+            .map { it as TypeElement }
+
+        if (typeElementsForPattern.isEmpty())
+            printSkipWarningBecauseOfNotExistingTypeConfigured(configurationType, packagePattern)
+
+        return typeElementsForPattern
     }
 
     private fun Element.getMatcherConfiguration() = getAnnotation(MatcherConfiguration::class.java)
@@ -131,6 +395,57 @@ class MatcherGenerationProcessorWorker(
 
     private inline fun <reified T> Set<TypeElement>.contains() =
         this.find { T::class.qualifiedName == it.qualifiedName.toString() } != null
+
+    /**
+     * A type to generate a matcher for, requested by a configuration.
+     */
+    private inner class MatcherRequest(val type: TypeElement, val configuration: Element) {
+        val target
+            get() = configuration.getMatcherConfiguration().generation.let {
+                MatcherTarget(type, it.packageConfig.value, it.propertyAccess)
+            }
+    }
+
+    /**
+     * Requests with the same target result in the same matcher.
+     */
+    private data class MatcherTarget(
+        val type: TypeElement,
+        val packageConfig: String,
+        val propertyAccess: MatcherConfiguration.GenerationConfiguration.PropertyAccess
+    )
+
+    companion object {
+        /**
+         * Processor option to control the generation date of generated sources.
+         */
+        const val TIMESTAMP_OPTION = "matchergen.timestamp"
+
+        /**
+         * Value of [TIMESTAMP_OPTION] to omit the generation date.
+         */
+        const val TIMESTAMP_NONE = "none"
+
+        /**
+         * Processor option with the directory to cache rendered sources in between builds.
+         */
+        const val CACHE_DIRECTORY_OPTION = "matchergen.cacheDir"
+
+        /**
+         * Processor option to report the time spent in each phase of the generation per type.
+         */
+        const val PROFILE_OPTION = "matchergen.profile"
+
+        /**
+         * Name of the profiling report in the class output.
+         */
+        const val PROFILE_REPORT = "matchergen-profile.json"
+
+        /**
+         * Name of a file in the class output, only used to locate the class output. It is never written.
+         */
+        private const val CLASS_OUTPUT_PROBE = "matchergen-class-output"
+    }
 }
 
 internal fun AnnotationMirror.getAnnotationValueForField(fieldName: String) =
@@ -0,0 +1,215 @@
+package io.github.marmer.annotationprocessing
+
+import com.google.devtools.ksp.getClassDeclarationByName
+import com.google.devtools.ksp.processing.CodeGenerator
+import com.google.devtools.ksp.processing.Dependencies
+import com.google.devtools.ksp.processing.KSPLogger
+import com.google.devtools.ksp.processing.Resolver
+import com.google.devtools.ksp.processing.SymbolProcessor
+import com.google.devtools.ksp.symbol.*
+import io.github.marmer.annotationprocessing.MatcherGenerationProcessorWorker.Companion.TIMESTAMP_OPTION
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.PropertyAccess
+import java.time.LocalDateTime
+import java.util.stream.Collectors
+import javax.annotation.processing.Generated
+
+/**
+ * Generates matchers from Kotlin symbols with KSP, so Kotlin modules do not need kapt and its Java stubs anymore. Types
+ * are configured with [MatcherConfiguration] and the generated matchers are the same as the ones of the
+ * [MatcherGenerationProcessor].
+ *
+ * Packages are looked up in the compiled sources only. Types of the classpath have to be configured by their full
+ * qualified name.
+ */
+class MatcherGenerationSymbolProcessor(
+    private val codeGenerator: CodeGenerator,
+    private val logger: KSPLogger,
+    options: Map<String, String>
+) : SymbolProcessor {
+    private val generationTimeStamp = timeStampFor(options[TIMESTAMP_OPTION])
+
+    override fun process(resolver: Resolver): List<KSAnnotated> {
+        val configurations = resolver.getSymbolsWithAnnotation(MatcherConfiguration::class.java.name)
+            .filterIsInstance<KSClassDeclaration>()
+            .toList()
+        if (configurations.isEmpty()) {
+            return emptyList()
+        }
+
+        val propertyModelCache = KspPropertyModelCache(resolver) { logger.warn(it) }
+        val topLevelTypesByPackage = resolver.getAllFiles()
+            .flatMap { it.declarations.filterIsInstance<KSClassDeclaration>() }
+            .toList()
+            .groupBy { it.packageName.asString() }
+        val packageIndex = lazy { PackageIndex(topLevelTypesByPackage.keys) }
+
+        val originatingFilesByModel = configurations
+            .flatMap { it.requestMatchers(resolver, topLevelTypesByPackage, packageIndex) }
+            .extractMatcherModels(propertyModelCache)
+        originatingFilesByModel.keys.toList()
+            .parallelStream()
+            .map { MatcherGenerator(it).generate() }
+            .collect(Collectors.toList())
+            .forEach { it.write(originatingFilesByModel.getValue(it.model)) }
+        return emptyList()
+    }
+
+    private fun KSClassDeclaration.requestMatchers(
+        resolver: Resolver,
+        topLevelTypesByPackage: Map<String, List<KSClassDeclaration>>,
+        packageIndex: Lazy<PackageIndex>
+    ): List<MatcherRequest> {
+        val configuration = matcherConfiguration
+        return configuration.typesOrPackages
+            .distinct()
+            .flatMap {
+                val types =
+                    if (PackageIndex.isPattern(it))
+                        packageIndex.value.resolve(it).flatMap { packageName -> topLevelTypesByPackage.getValue(packageName) }
+                    else
+                        topLevelTypesByPackage[it].orEmpty() + listOfNotNull(resolver.outermostTypeOf(it))
+                if (types.isEmpty()) {
+                    logger.warn("Neither a type nor a package exists for '$it'", this)
+                }
+                types
+            }
+            .distinct()
+            .filter { !it.isSelfGenerated }
+            .map { MatcherRequest(MatcherTarget(it, configuration.packageConfig, configuration.propertyAccess), this) }
+    }
+
+    /**
+     * Types requested by several configurations with the same generation settings are extracted only once, like the
+     * [MatcherGenerationProcessor] does. A matcher originates from the files of its type and of all of these
+     * configurations.
+     */
+    private fun List<MatcherRequest>.extractMatcherModels(
+        propertyModelCache: KspPropertyModelCache
+    ): Map<MatcherModel, List<KSFile>> {
+        val extractors = mutableMapOf<Pair<String, PropertyAccess>, KspMatcherModelExtractor>()
+        val extractedModels = groupBy({ it.target }, { it.configuration })
+            .map { (target, configurations) ->
+                val extractor = extractors.getOrPut(target.packageConfig to target.propertyAccess) {
+                    KspMatcherModelExtractor(
+                        MatcherModelFactory(
+                            generationTimeStamp,
+                            MatcherGenerationProcessor::class.java.name,
+                            target.packageConfig,
+                            target.propertyAccess
+                        ),
+                        propertyModelCache
+                    )
+                }
+                Triple(extractor.extract(target.type), target.type, configurations)
+            }
+
+        return extractedModels
+            .groupBy { (model, _, _) -> model.qualifiedName }
+            .values
+            .associate { modelsWithSameName ->
+                val (model, type, configurations) = modelsWithSameName.first()
+                modelsWithSameName.drop(1)
+                    .flatMap { (_, _, conflictingConfigurations) -> conflictingConfigurations }
+                    .forEach {
+                        logger.error(
+                            "Generation settings for '${model.qualifiedName}' conflict with those of ${configurations.joinToString()}",
+                            it
+                        )
+                    }
+                model to (listOfNotNull(type.containingFile) + configurations.mapNotNull { it.containingFile }).distinct()
+            }
+    }
+
+    /**
+     * The set of matched types may change with each source file of a configured package, so matchers are aggregating.
+     */
+    private fun RenderedMatcher.write(originatingFiles: List<KSFile>) =
+        codeGenerator
+            .createNewFile(Dependencies(true, *originatingFiles.toTypedArray()), model.packageName, model.simpleName, "java")
+            .bufferedWriter()
+            .use { it.write(source) }
+
+    /**
+     * Matchers for nested types are generated as part of the matcher of their outermost type.
+     */
+    private fun Resolver.outermostTypeOf(qualifiedName: String): KSClassDeclaration? =
+        getClassDeclarationByName(qualifiedName)
+            ?.let { type -> generateSequence(type) { it.parentDeclaration as? KSClassDeclaration }.last() }
+
+    private val KSClassDeclaration.isSelfGenerated: Boolean
+        get() = annotations
+            .filter { it.qualifiedName == Generated::class.java.name }
+            .any { MatcherGenerationProcessor::class.java.name in it.stringValues("value") }
+
+    private val KSClassDeclaration.matcherConfiguration: KSAnnotation
+        get() = annotations.first { it.qualifiedName == MatcherConfiguration::class.java.name }
+
+    private val KSAnnotation.typesOrPackages: List<String>
+        get() = stringValues("value")
+
+    private val KSAnnotation.generation: KSAnnotation?
+        get() = argument("generation") as? KSAnnotation
+
+    private val KSAnnotation.packageConfig: String
+        get() = (generation?.argument("packageConfig") as? KSAnnotation)?.argument("value") as? String
+            ?: DEFAULT_GENERATION.packageConfig.value
+
+    /**
+     * Enum constants are symbols of the type of the constant.
+     */
+    private val KSAnnotation.propertyAccess: PropertyAccess
+        get() = when (val value = generation?.argument("propertyAccess")) {
+            is KSType -> PropertyAccess.valueOf(value.declaration.simpleName.asString())
+            null -> DEFAULT_GENERATION.propertyAccess
+            else -> PropertyAccess.valueOf(value.toString().substringAfterLast('.'))
+        }
+
+    private val KSAnnotation.qualifiedName
+        get() = annotationType.resolve().declaration.qualifiedName?.asString()
+
+    /**
+     * Single values of array members are not wrapped into a list if they are written without brackets in Java.
+     */
+    private fun KSAnnotation.stringValues(name: String): List<String> =
+        when (val value = argument(name)) {
+            null -> emptyList()
+            is List<*> -> value.map { it.toString() }
+            else -> listOf(value.toString())
+        }
+
+    private fun KSAnnotation.argument(name: String): Any? =
+        arguments.firstOrNull { it.name?.asString() == name }?.value
+
+    private fun timeStampFor(option: String?): () -> LocalDateTime? =
+        try {
+            StandaloneMatcherGenerator.timeStampFor(option)
+        } catch (e: IllegalArgumentException) {
+            logger.error("${e.message} (option $TIMESTAMP_OPTION)")
+            LocalDateTime::now
+        }
+
+    /**
+     * A type to generate a matcher for, requested by a configuration.
+     */
+    private class MatcherRequest(val target: MatcherTarget, val configuration: KSClassDeclaration)
+
+    /**
+     * Requests with the same target result in the same matcher.
+     */
+    private data class MatcherTarget(
+        val type: KSClassDeclaration,
+        val packageConfig: String,
+        val propertyAccess: PropertyAccess
+    )
+
+    private companion object {
+        /**
+         * Arguments with default values are not part of the symbols of all KSP versions, so the defaults are taken
+         * from the annotation itself.
+         */
+        val DEFAULT_GENERATION = MatcherConfiguration::class.java.getMethod("generation").defaultValue
+                as GenerationConfiguration
+    }
+}
@@ -0,0 +1,14 @@
+package io.github.marmer.annotationprocessing
+
+import com.google.devtools.ksp.processing.SymbolProcessor
+import com.google.devtools.ksp.processing.SymbolProcessorEnvironment
+import com.google.devtools.ksp.processing.SymbolProcessorProvider
+
+/**
+ * Entry point of KSP, registered as service. Supports the processor option [MatcherGenerationProcessorWorker.TIMESTAMP_OPTION]
+ * as KSP argument (e.g. `ksp { arg("matchergen.timestamp", "none") }`).
+ */
+class MatcherGenerationSymbolProcessorProvider : SymbolProcessorProvider {
+    override fun create(environment: SymbolProcessorEnvironment): SymbolProcessor =
+        MatcherGenerationSymbolProcessor(environment.codeGenerator, environment.logger, environment.options)
+}
@@ -3,48 +3,32 @@ package io.github.marmer.annotationprocessing
 import com.squareup.javapoet.*
 import com.squareup.javapoet.MethodSpec.methodBuilder
 import com.squareup.javapoet.TypeName.*
-import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher
-import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration
-import org.hamcrest.Description
-import org.hamcrest.Matcher
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanProperty
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.GeneratedBeanMatcher
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.PropertyAccess
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.PropertyTable
 import org.hamcrest.Matchers
-import org.hamcrest.TypeSafeMatcher
-import java.time.LocalDateTime
 import javax.annotation.processing.Generated
-import javax.annotation.processing.ProcessingEnvironment
-import javax.lang.model.element.*
-import javax.lang.model.type.*
-
-
-class MatcherGenerator(
-    private val processingEnv: ProcessingEnvironment,
-    private val baseType: TypeElement,
-    private val generationTimeStamp: () -> LocalDateTime,
-    private val generationMarker: String,
-    private val additionalOriginationElements: Collection<Element>,
-    private val matcherConfigurationMirror: AnnotationMirror,
-    private val matcherConfiguration: MatcherConfiguration
-) {
-
-    fun generate() = JavaFile.builder(
-        getBasePackage(),
-        getPreparedTypeSpecBuilder()
-            .build()
-    ).build()
-        .writeTo(processingEnv.filer)
-
-    private fun getBasePackage() =
-        if (matcherConfiguration.generation.packageConfig.value.isBlank()
-        ) baseType.packageElement.toString()
-        else "${
-            matcherConfiguration.generation.packageConfig.value.replace(
-                Regex("\\.+$"),
-                ""
-            )
-        }.${baseType.packageElement}"
+import javax.lang.model.element.Modifier
+
+/**
+ * Renders the source of a matcher from its [MatcherModel]. Only JavaPoet is used here and not the javac model, so
+ * matchers can be rendered in parallel.
+ */
+class MatcherGenerator(private val model: MatcherModel) {
+
+    fun generate() = RenderedMatcher(
+        model,
+        JavaFile.builder(
+            model.packageName,
+            getPreparedTypeSpecBuilder()
+                .build()
+        ).build()
+            .toString()
+    )
 
-    private fun getPreparedTypeSpecBuilder(): TypeSpec.Builder {
-        val classBuilder = TypeSpec.classBuilder(simpleMatcherName)
+    private fun getPreparedTypeSpecBuilder(): TypeSpec.Builder =
+        TypeSpec.classBuilder(model.simpleName)
             .addModifiers(Modifier.PUBLIC)
             .addAnnotation(getGeneratedAnnotation())
             .superclass(getSuperClass())
@@ -52,129 +36,110 @@ class MatcherGenerator(
             .addMethod(getConstructor())
             .addMethods(getPropertyHamcrestMatcherMethods())
             .addMethods(getPropertyEqualsMatcherMethods())
-            .addMethods(getMatcherMethods())
+            .addMethods(getPropertyRangeMatcherMethods())
             .addMethod(getApiInitializer())
             .addTypes(getInnerMatchers())
-            .addOriginatingElement(baseType)
-
-        additionalOriginationElements.forEach { classBuilder.addOriginatingElement(it) }
-
-        return classBuilder
-    }
 
+    /**
+     * The index of a property is its slot in the property table of the matcher.
+     */
     private fun getPropertyHamcrestMatcherMethods(): List<MethodSpec> {
-        return baseType.properties
-            .distinctBy { it.name }
-            .map { it.toHamcrestMatcher() }
-            .filterNotNull()
+        return model.properties
+            .mapIndexedNotNull { slot, property -> property.toHamcrestMatcher(slot) }
     }
 
-    private fun isConflictingProperty(propertyName: String) = baseType.properties
-        .groupBy { it.name }
-        .filter { it.value.size > 1 }
-        .map { it.key }
-        .distinct()
-        .contains(propertyName)
-
-
     private fun getPropertyEqualsMatcherMethods() =
-        baseType.properties
-            .map { it.toEqualsMatcher() }
+        model.properties
+            .mapIndexed { slot, property -> property.toEqualsMatcher(slot) }
+
+    private fun MatcherPropertyModel.toHamcrestMatcher(slot: Int) =
+        matcherParameterType?.let {
+            methodBuilder("with${name.capitalized}")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(
+                    it,
+                    "matcher",
+                    Modifier.FINAL
+                )
+                .addStatement(toPropertyMatcherRegistration(slot, CodeBlock.of("matcher")))
+                .addStatement(
+                    "return this"
+                )
+                .returns(getGeneratedTypeName())
+                .build()
+        }
 
-    private fun Property.toHamcrestMatcher() =
-        if (type.isMatcher) null
-        else methodBuilder("with${name.capitalized}")
+    private fun MatcherPropertyModel.toEqualsMatcher(slot: Int) =
+        methodBuilder("with${name.capitalized}")
             .addModifiers(Modifier.PUBLIC)
             .addParameter(
-                toParameterizedMatcherType(),
-                "matcher",
-                Modifier.FINAL
-            )
-            .addStatement(
-                "\$L.with(\$S, matcher)",
-                builderFieldName,
-                name
+                equalsParameterType,
+                "value", Modifier.FINAL
             )
             .addStatement(
-                "return this"
+                primitive
+                    ?.let { toPrimitivePropertyMatcherRegistration(it.matcherSuffix, slot, CodeBlock.of("value")) }
+                    ?: toPropertyMatcherRegistration(slot, CodeBlock.of("\$T.equalTo(value)", Matchers::class.java))
             )
+            .addStatement("return this")
             .returns(getGeneratedTypeName())
             .build()
 
-    private fun Property.toParameterizedMatcherType() =
-        ParameterizedTypeName.get(
-            ClassName.get(Matcher::class.java),
-            if (isConflictingProperty(name))
-                WildcardTypeName.subtypeOf(OBJECT)
-            else WildcardTypeName.supertypeOf(
-                type.typeVarsToWildcards(true)
+    private fun getPropertyRangeMatcherMethods() =
+        model.properties
+            .flatMapIndexed { slot, property -> property.toRangeMatchers(slot) }
+
+    private fun MatcherPropertyModel.toRangeMatchers(slot: Int): List<MethodSpec> =
+        when {
+            primitive == null || primitive.typeName == BOOLEAN -> emptyList()
+            primitive.typeName == DOUBLE -> listOf(
+                toRangeMatcher("Between", primitive, slot, "min", "max"),
+                toRangeMatcher("CloseTo", primitive, slot, "value", "error")
             )
-        )
+            else -> listOf(toRangeMatcher("Between", primitive, slot, "min", "max"))
+        }
 
-    private fun Property.toEqualsMatcher() =
-        methodBuilder("with${name.capitalized}")
+    private fun MatcherPropertyModel.toRangeMatcher(
+        variant: String,
+        primitive: PrimitivePropertyModel,
+        slot: Int,
+        vararg parameterNames: String
+    ) =
+        methodBuilder("with${name.capitalized}$variant")
             .addModifiers(Modifier.PUBLIC)
-            .addParameter(
-                toEqualsMatcherParameterType(),
-                "value", Modifier.FINAL
-            )
+            .addParameters(parameterNames.map { ParameterSpec.builder(primitive.typeName, it, Modifier.FINAL).build() })
             .addStatement(
-                "\$L.with(\$S, \$T.equalTo(value))", builderFieldName, name,
-                Matchers::class.java
+                toPrimitivePropertyMatcherRegistration(
+                    "${primitive.matcherSuffix}$variant",
+                    slot,
+                    CodeBlock.of(parameterNames.joinToString(", "))
+                )
             )
             .addStatement("return this")
             .returns(getGeneratedTypeName())
             .build()
 
-    private fun Property.toEqualsMatcherParameterType(): TypeName =
-        if (type.kind == TypeKind.TYPEVAR) get(Object::class.java)
-        else {
-            type.typeVarsToWildcards()
-        }
+    /**
+     * Primitive properties are only compared without boxing if they are read by getters, so they always have a slot.
+     */
+    private fun toPrimitivePropertyMatcherRegistration(methodSuffix: String, slot: Int, arguments: CodeBlock) =
+        CodeBlock.of("\$L.with\$L(\$L, \$L)", builderFieldName, methodSuffix, slot, arguments)
 
-    private fun TypeMirror.typeVarsToWildcards(boxPrimitives: Boolean = false): TypeName =
-        when {
-            this is DeclaredType && typeArguments.isNotEmpty() -> {
-                ParameterizedTypeName.get(
-                    ClassName.get(asTypeElement()),
-                    *(typeArguments.map {
-                        when {
-                            it is TypeVariable -> WildcardTypeName.subtypeOf(Object::class.java)
-                            it is WildcardType ->
-                                when {
-                                    it.extendsBound != null -> WildcardTypeName.subtypeOf(
-                                        it.extendsBound.typeVarsToWildcards(
-                                            boxPrimitives
-                                        )
-                                    )
-                                    it.superBound != null -> WildcardTypeName.supertypeOf(
-                                        it.superBound.typeVarsToWildcards(
-                                            boxPrimitives
-                                        )
-                                    )
-                                    else -> WildcardTypeName.subtypeOf(Object::class.java)
-                                }
-                            else -> WildcardTypeName.subtypeOf(it.typeVarsToWildcards(boxPrimitives))
-                        }
-                    }.toTypedArray())
-                )
-            }
-            this is TypeVariable -> get(Object::class.java)
-            this is PrimitiveType ->
-                if (boxPrimitives) get(processingEnv.typeUtils.boxedClass(this).asType())
-                else get(this)
-            else -> get(this)
+    private fun MatcherPropertyModel.toPropertyMatcherRegistration(slot: Int, valueMatcher: CodeBlock) =
+        when (model.propertyAccess) {
+            PropertyAccess.GETTER -> CodeBlock.of("\$L.with(\$L, \$L)", builderFieldName, slot, valueMatcher)
+            else -> CodeBlock.of("\$L.with(\$S, \$L)", builderFieldName, name, valueMatcher)
         }
 
     private fun getApiInitializer() =
-        methodBuilder("is${baseType.simpleName}")
+        methodBuilder(model.apiInitializerName)
             .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
             .addStatement("return new \$T()", getGeneratedTypeName())
             .returns(getGeneratedTypeName())
             .build()
 
     private fun getSimpleMatcherClassName() =
-        ClassName.get("", simpleMatcherName)
+        ClassName.get("", model.simpleName)
 
     private fun getGeneratedTypeName() =
         getSimpleMatcherClassName()
@@ -182,190 +147,103 @@ class MatcherGenerator(
     private fun getConstructor() = MethodSpec.constructorBuilder()
         .addModifiers(Modifier.PUBLIC)
         .addStatement(
-            "\$L = new \$T(\$T.class)",
-            builderFieldName,
-            getBuilderFieldType(),
-            processingEnv.typeUtils.getDeclaredType(baseType),
-        )
-        .build()
-
-
-    private fun getMatcherMethods() = listOf(
-        getDescribeToMethod(),
-        getMatchesSafelyMethod(),
-        getDescribeMissmatchSafelyMethod()
-    )
-
-    private fun getDescribeToMethod() = methodBuilder("describeTo")
-        .addModifiers(Modifier.PUBLIC)
-        .addAnnotation(Override::class.java)
-        .addParameter(
-            Description::class.java,
-            "description",
-            Modifier.FINAL
-        )
-        .addStatement(
-            "\$L.describeTo(\$L)",
-            builderFieldName,
-            "description"
+            when (model.propertyAccess) {
+                PropertyAccess.GETTER -> CodeBlock.of("super(\$L)", propertyTableFieldName)
+                else -> CodeBlock.of("super(\$T.class)", model.rawTypeName)
+            }
         )
         .build()
 
-    private fun getMatchesSafelyMethod() = methodBuilder("matchesSafely")
-        .addAnnotation(Override::class.java)
-        .addModifiers(Modifier.PROTECTED)
-        .addParameter(baseType.typeNameWithWildCards, "item", Modifier.FINAL)
-        .addStatement("return \$L.matches(\$L)", builderFieldName, "item")
-        .returns(BOOLEAN)
-        .build()
-
-    private fun getDescribeMissmatchSafelyMethod() =
-        methodBuilder("describeMismatchSafely")
-            .addAnnotation(Override::class.java)
-            .addParameter(baseType.typeNameWithWildCards, "item", Modifier.FINAL)
-            .addParameter(Description::class.java, "description", Modifier.FINAL)
-            .addStatement(
-                "\$L.describeMismatch(\$L, \$L)",
-                builderFieldName,
-                "item",
-                "description"
-            )
-            .addModifiers(Modifier.PROTECTED).build()
-
-
-    private fun getFields() = listOf(
-        FieldSpec.builder(
-            getBuilderFieldType(),
-            builderFieldName,
+    private fun getFields() = listOfNotNull(getPropertyTableField())
+
+    /**
+     * Properties read by getters are described by a static table, so their getters are resolved once when the matcher
+     * class is initialized and each property is added to the BeanPropertyMatcher by its slot.
+     */
+    private fun getPropertyTableField() =
+        if (model.propertyAccess != PropertyAccess.GETTER) null
+        else FieldSpec.builder(
+            ParameterizedTypeName.get(ClassName.get(PropertyTable::class.java), model.typeName),
+            propertyTableFieldName,
             Modifier.PRIVATE,
+            Modifier.STATIC,
             Modifier.FINAL
+        ).initializer(
+            CodeBlock.builder()
+                .add("\$T.of(\$T.class", PropertyTable::class.java, model.rawTypeName)
+                .indent()
+                .apply { model.properties.forEach { add(",\n\$L", it.toBeanProperty()) } }
+                .unindent()
+                .add(")")
+                .build()
         ).build()
-    )
 
-    private fun getBuilderFieldType() = ParameterizedTypeName.get(
-        ClassName.get(BeanPropertyMatcher::class.java),
-        baseType.typeNameWithWildCards
-    )
+    private fun MatcherPropertyModel.toBeanProperty() =
+        when (primitive) {
+            null -> CodeBlock.of(
+                "\$T.of(\$S, \$T::\$L, \$T.class)",
+                BeanProperty::class.java,
+                name,
+                model.className,
+                accessor,
+                equalsParameterType.rawType
+            )
+            else -> CodeBlock.of(
+                "\$T.of\$L(\$S, \$T::\$L)",
+                BeanProperty::class.java,
+                primitive.matcherSuffix,
+                name,
+                model.className,
+                accessor
+            )
+        }
+
+    /**
+     * Raw type of a property for its class literal, e.g. List for List<String>.
+     */
+    private val TypeName.rawType: TypeName
+        get() = when (this) {
+            is ParameterizedTypeName -> rawType
+            is ArrayTypeName -> ArrayTypeName.of(componentType.rawType)
+            is TypeVariableName, is WildcardTypeName -> OBJECT
+            else -> this
+        }
 
     private val builderFieldName = "beanPropertyMatcher"
 
+    private val propertyTableFieldName = "PROPERTIES"
+
+    /**
+     * Everything which does not depend on the properties is inherited from the GeneratedBeanMatcher, including the
+     * BeanPropertyMatcher the properties are added to.
+     */
     private fun getSuperClass() = ParameterizedTypeName.get(
-        ClassName.get(TypeSafeMatcher::class.java),
-        baseType.typeNameWithWildCards
+        ClassName.get(GeneratedBeanMatcher::class.java),
+        model.typeName,
+        getGeneratedTypeName()
     )
 
-    private fun getInnerMatchers(): List<TypeSpec> {
-        val innerMatcherBases = baseType.enclosedElements
-            .filterIsInstance(TypeElement::class.java)
-            .partition { it.modifiers.contains(Modifier.PUBLIC) }
-
-        innerMatcherBases.second.forEach(this::logTypeSkipped)
-        return innerMatcherBases
-            .first
+    private fun getInnerMatchers(): List<TypeSpec> =
+        model.innerMatchers
             .map {
-                MatcherGenerator(
-                    processingEnv,
-                    it,
-                    generationTimeStamp,
-                    generationMarker,
-                    listOf<Element>(baseType) + additionalOriginationElements,
-                    matcherConfigurationMirror,
-                    matcherConfiguration
-                ).getPreparedTypeSpecBuilder()
+                MatcherGenerator(it)
+                    .getPreparedTypeSpecBuilder()
                     .addModifiers(Modifier.STATIC)
                     .build()
             }
-    }
 
-    private fun logTypeSkipped(element: TypeElement) {
-        processingEnv.logNote(
-            "Matcher generation skipped for non public type: ${element.qualifiedName}",
-            element,
-            matcherConfigurationMirror,
-            matcherConfigurationMirror.getAnnotationValueForValue()
-        )
+    private fun getGeneratedAnnotation(): AnnotationSpec {
+        val annotationBuilder = AnnotationSpec.builder(Generated::class.java)
+            .addMember("value", "\$S", model.generationMarker)
+        model.generationTimeStamp?.let { annotationBuilder.addMember("date", "\$S", it) }
+        return annotationBuilder.build()
     }
 
-    private val TypeElement.properties: List<Property>
-        get() = transitiveInheritedElements
-            .filter { it.isProperty }
-            .distinctBy { it.simpleName }
-            .map { it as ExecutableElement }
-            .map {
-                Property(
-                    name = it.simpleName.withoutPropertyPrefix(),
-                    type = it.returnType,
-                    accessor = it.toString()
-                )
-            }
-
-    private val TypeElement.transitiveInheritedElements: List<Element>
-        get() = if (superclass.kind != TypeKind.NONE)
-            enclosedElements +
-                    superclass.asTypeElement().transitiveInheritedElements +
-                    interfaces.flatMap { it.asTypeElement().transitiveInheritedElements }
-        else
-            enclosedElements +
-                    interfaces.flatMap { it.asTypeElement().transitiveInheritedElements }
-
-    private fun getGeneratedAnnotation() = AnnotationSpec.builder(Generated::class.java)
-        .addMember("value", "\$S", generationMarker)
-        .addMember("date", "\$S", generationTimeStamp())
-        .build()
-
-    private val simpleMatcherName = "${processingEnv.typeUtils.getDeclaredType(baseType).asElement().simpleName}Matcher"
-
-    private fun TypeMirror.asTypeElement() =
-        (processingEnv.typeUtils.asElement(this) as TypeElement)
-
-    private val TypeMirror.isMatcher: Boolean
-        get() =
-            kind == TypeKind.DECLARED && Matcher::class.java.canonicalName == this.asTypeElement().qualifiedName.toString()
-
-    private val TypeElement.packageElement: PackageElement
-        get() = processingEnv.elementUtils.getPackageOf(this)
-
-
-    private val TypeElement.typeName: TypeName
-        get() = get(asType())
-
-    private val TypeElement.typeNameWithWildCards: TypeName
-        get() = if (typeParameters.isEmpty())
-            typeName
-        else
-            ParameterizedTypeName.get(
-                ClassName.get(this),
-                *(this.typeParameters.map { WildcardTypeName.subtypeOf(Object::class.java) }).toTypedArray()
-            )
-
-    private val Element.isProperty
-        get() =
-            this is ExecutableElement &&
-                    isPublic &&
-                    !isStatic &&
-                    hasReturnTypeWithMatchingPropertyPrefix() &&
-                    hasNoParameters()
-
-    private fun ExecutableElement.hasReturnTypeWithMatchingPropertyPrefix() =
-        hasReturnType() &&
-                simpleName.startsWith("get") && returnType.kind != TypeKind.BOOLEAN ||
-                (simpleName.startsWith("is") && returnType.kind == TypeKind.BOOLEAN)
-
-    private fun ExecutableElement.hasReturnType() =
-        returnType.kind != TypeKind.VOID
-
-    private fun ExecutableElement.hasNoParameters() =
-        this.parameters.isEmpty()
-
-    private fun Name.withoutPropertyPrefix() = toString()
-        .replaceFirst(Regex("^((get)|(is))"), "")
-        .decapitalized
-
     private val String.capitalized: String
         get() = replaceFirstChar { it.uppercase() }
-
-    private val String.decapitalized: String
-        get() = replaceFirstChar { it.lowercase() }
 }
 
-private data class Property(val name: String, val type: TypeMirror, val accessor: String)
+/**
+ * Source of a matcher, ready to be written by the Filer.
+ */
+class RenderedMatcher(val model: MatcherModel, val source: String)
@@ -0,0 +1,63 @@
+package io.github.marmer.annotationprocessing
+
+import com.squareup.javapoet.ClassName
+import com.squareup.javapoet.TypeName
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.PropertyAccess
+import java.time.LocalDateTime
+import javax.lang.model.element.Element
+
+/**
+ * Everything needed to render the source of a matcher, extracted from the javac model beforehand. It contains only
+ * immutable values, so matchers can be rendered on any thread. The originating elements are never queried, they are
+ * just handed to the Filer.
+ */
+data class MatcherModel(
+    val packageName: String,
+    val simpleName: String,
+    val typeName: TypeName,
+    val rawTypeName: TypeName,
+    val className: ClassName,
+    val apiInitializerName: String,
+    val generationMarker: String,
+    val generationTimeStamp: LocalDateTime?,
+    val propertyAccess: PropertyAccess,
+    val properties: List<MatcherPropertyModel>,
+    val innerMatchers: List<MatcherModel>,
+    val originatingElements: List<Element>
+) {
+    val qualifiedName: String
+        get() = if (packageName.isEmpty()) simpleName else "$packageName.$simpleName"
+
+    /**
+     * Originating elements of the matcher and all of its inner matchers.
+     */
+    val transitiveOriginatingElements: List<Element>
+        get() = originatingElements + innerMatchers.flatMap { it.transitiveOriginatingElements }
+}
+
+/**
+ * A property of a [MatcherModel].
+ */
+data class MatcherPropertyModel(
+    val name: String,
+    val accessor: String,
+    /**
+     * Type of the matcher parameter or null, if no matcher method is generated for the property (e.g. because it is a
+     * matcher itself or because another property with the same name already has one).
+     */
+    val matcherParameterType: TypeName?,
+    val equalsParameterType: TypeName,
+    /**
+     * Null, if the property cannot be compared without boxing.
+     */
+    val primitive: PrimitivePropertyModel?
+)
+
+/**
+ * Primitive type of a [MatcherPropertyModel] and the suffix of the specialized registration methods of the
+ * BeanPropertyMatcher for it (e.g. "Int" for withInt and withIntBetween).
+ */
+data class PrimitivePropertyModel(
+    val matcherSuffix: String,
+    val typeName: TypeName
+)
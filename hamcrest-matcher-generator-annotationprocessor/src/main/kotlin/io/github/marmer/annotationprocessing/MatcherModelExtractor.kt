@@ -0,0 +1,59 @@
+package io.github.marmer.annotationprocessing
+
+import com.squareup.javapoet.ClassName
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration
+import java.time.LocalDateTime
+import javax.annotation.processing.ProcessingEnvironment
+import javax.lang.model.element.AnnotationMirror
+import javax.lang.model.element.Element
+import javax.lang.model.element.Modifier
+import javax.lang.model.element.TypeElement
+
+/**
+ * Snapshots types into [MatcherModel]s. The javac model is not thread safe, so this has to be done by the processing
+ * thread.
+ */
+class MatcherModelExtractor(
+    private val processingEnv: ProcessingEnvironment,
+    generationTimeStamp: () -> LocalDateTime?,
+    generationMarker: String,
+    private val matcherConfigurationMirror: AnnotationMirror,
+    matcherConfiguration: MatcherConfiguration,
+    private val propertyModelCache: PropertyModelCache
+) {
+    private val matcherModelFactory = MatcherModelFactory(
+        generationTimeStamp,
+        generationMarker,
+        matcherConfiguration.generation.packageConfig.value,
+        matcherConfiguration.generation.propertyAccess
+    )
+
+    fun extract(baseType: TypeElement, additionalOriginationElements: List<Element>): MatcherModel =
+        matcherModelFactory.create(
+            type = ClassName.get(baseType),
+            typeParameterCount = baseType.typeParameters.size,
+            properties = propertyModelCache.propertiesOf(baseType),
+            innerMatchers = baseType.extractInnerMatchers(additionalOriginationElements),
+            originatingElements = listOf(baseType) + additionalOriginationElements
+        )
+
+    private fun TypeElement.extractInnerMatchers(additionalOriginationElements: List<Element>): List<MatcherModel> {
+        val innerMatcherBases = enclosedElements
+            .filterIsInstance(TypeElement::class.java)
+            .partition { it.modifiers.contains(Modifier.PUBLIC) }
+
+        innerMatcherBases.second.forEach(this@MatcherModelExtractor::logTypeSkipped)
+        return innerMatcherBases
+            .first
+            .map { extract(it, listOf<Element>(this) + additionalOriginationElements) }
+    }
+
+    private fun logTypeSkipped(element: TypeElement) {
+        processingEnv.logNote(
+            "Matcher generation skipped for non public type: ${element.qualifiedName}",
+            element,
+            matcherConfigurationMirror,
+            matcherConfigurationMirror.getAnnotationValueForValue()
+        )
+    }
+}
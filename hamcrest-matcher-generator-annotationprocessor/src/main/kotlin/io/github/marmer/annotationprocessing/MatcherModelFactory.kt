@@ -0,0 +1,140 @@
+package io.github.marmer.annotationprocessing
+
+import com.squareup.javapoet.ClassName
+import com.squareup.javapoet.ParameterizedTypeName
+import com.squareup.javapoet.TypeName
+import com.squareup.javapoet.TypeName.OBJECT
+import com.squareup.javapoet.TypeVariableName
+import com.squareup.javapoet.WildcardTypeName
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.PropertyAccess
+import org.hamcrest.Matcher
+import java.time.LocalDateTime
+import javax.lang.model.element.Element
+
+/**
+ * Creates [MatcherModel]s from what has been read about a type, no matter whether it has been read from the javac model
+ * or from bytecode. Only JavaPoet types are used here, so the same type results in the same matcher for all readers.
+ */
+class MatcherModelFactory(
+    private val generationTimeStamp: () -> LocalDateTime?,
+    private val generationMarker: String,
+    private val packageConfig: String,
+    private val propertyAccess: PropertyAccess
+) {
+
+    fun create(
+        type: ClassName,
+        typeParameterCount: Int,
+        properties: List<Property>,
+        innerMatchers: List<MatcherModel>,
+        originatingElements: List<Element>
+    ): MatcherModel = MatcherModel(
+        packageName = basePackageOf(type),
+        simpleName = "${type.simpleName()}Matcher",
+        typeName = if (typeParameterCount == 0) type
+        else ParameterizedTypeName.get(
+            type,
+            *Array(typeParameterCount) { WildcardTypeName.subtypeOf(Object::class.java) }
+        ),
+        rawTypeName = type,
+        className = type,
+        apiInitializerName = "is${type.simpleName()}",
+        generationMarker = generationMarker,
+        generationTimeStamp = generationTimeStamp(),
+        propertyAccess = propertyAccess,
+        properties = properties.toMatcherPropertyModels(),
+        innerMatchers = innerMatchers,
+        originatingElements = originatingElements
+    )
+
+    private fun basePackageOf(type: ClassName) =
+        if (packageConfig.isBlank()) type.packageName()
+        else "${packageConfig.replace(Regex("\\.+$"), "")}.${type.packageName()}"
+
+    private fun List<Property>.toMatcherPropertyModels(): List<MatcherPropertyModel> {
+        val conflictingPropertyNames = groupingBy { it.name }
+            .eachCount()
+            .filterValues { it > 1 }
+            .keys
+        val namesWithMatcherMethod = mutableSetOf<String>()
+        return map {
+            val isFirstWithName = namesWithMatcherMethod.add(it.name)
+            MatcherPropertyModel(
+                name = it.name,
+                accessor = it.accessor,
+                matcherParameterType =
+                if (isFirstWithName && !it.type.isMatcher)
+                    it.toParameterizedMatcherType(it.name in conflictingPropertyNames)
+                else null,
+                equalsParameterType = it.toEqualsMatcherParameterType(),
+                primitive = it.primitiveMatcherSuffix?.let { suffix -> PrimitivePropertyModel(suffix, it.type) }
+            )
+        }
+    }
+
+    private fun Property.toParameterizedMatcherType(isConflicting: Boolean) =
+        ParameterizedTypeName.get(
+            ClassName.get(Matcher::class.java),
+            if (isConflicting)
+                WildcardTypeName.subtypeOf(OBJECT)
+            else WildcardTypeName.supertypeOf(
+                type.typeVarsToWildcards(true)
+            )
+        )
+
+    private val Property.primitiveMatcherSuffix: String?
+        get() = if (propertyAccess != PropertyAccess.GETTER) null
+        else when (type) {
+            TypeName.INT -> "Int"
+            TypeName.LONG -> "Long"
+            TypeName.DOUBLE -> "Double"
+            TypeName.BOOLEAN -> "Boolean"
+            else -> null
+        }
+
+    private fun Property.toEqualsMatcherParameterType(): TypeName =
+        if (type is TypeVariableName) OBJECT
+        else type.typeVarsToWildcards()
+
+    private fun TypeName.typeVarsToWildcards(boxPrimitives: Boolean = false): TypeName =
+        when {
+            this is ParameterizedTypeName && typeArguments.isNotEmpty() -> {
+                ParameterizedTypeName.get(
+                    rawType,
+                    *(typeArguments.map {
+                        when (it) {
+                            is TypeVariableName -> WildcardTypeName.subtypeOf(Object::class.java)
+                            is WildcardTypeName ->
+                                if (it.lowerBounds.isNotEmpty())
+                                    WildcardTypeName.supertypeOf(it.lowerBounds.single().typeVarsToWildcards(boxPrimitives))
+                                else
+                                    WildcardTypeName.subtypeOf(it.upperBounds.single().typeVarsToWildcards(boxPrimitives))
+                            else -> WildcardTypeName.subtypeOf(it.typeVarsToWildcards(boxPrimitives))
+                        }
+                    }.toTypedArray())
+                )
+            }
+            this is TypeVariableName -> OBJECT
+            isPrimitive && boxPrimitives -> box()
+            else -> this
+        }
+
+    private val TypeName.isMatcher: Boolean
+        get() = MATCHER == if (this is ParameterizedTypeName) rawType else this
+
+    private companion object {
+        val MATCHER: ClassName = ClassName.get(Matcher::class.java)
+    }
+}
+
+/**
+ * A property of a type, read by its [accessor] (e.g. getName or isActive).
+ */
+data class Property(val name: String, val type: TypeName, val accessor: String)
+
+/**
+ * @return Name of the property read by an accessor, e.g. "name" for getName.
+ */
+internal fun String.withoutPropertyPrefix() =
+    replaceFirst(Regex("^((get)|(is))"), "")
+        .replaceFirstChar { it.lowercase() }
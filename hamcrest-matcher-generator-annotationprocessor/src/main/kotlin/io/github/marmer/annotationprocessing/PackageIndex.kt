@@ -0,0 +1,56 @@
+package io.github.marmer.annotationprocessing
+
+/**
+ * Prefix tree of package names, to resolve package patterns without looking up each configured pattern separately.
+ * Within patterns `*` matches exactly one segment of a package name and `**` any number of segments (including
+ * none). So `com.acme.model.**` matches `com.acme.model` and all of its subpackages, `com.acme.*.dto` matches
+ * `com.acme.order.dto` but neither `com.acme.dto` nor `com.acme.order.internal.dto`.
+ */
+class PackageIndex(packageNames: Collection<String>) {
+    private val root = Node()
+
+    init {
+        packageNames.forEach { packageName ->
+            packageName.split('.')
+                .fold(root) { node, segment -> node.children.getOrPut(segment) { Node() } }
+                .packageName = packageName
+        }
+    }
+
+    /**
+     * @return Names of all packages matching the pattern in alphabetical order.
+     */
+    fun resolve(pattern: String): List<String> {
+        val packageNames = sortedSetOf<String>()
+        root.collectMatches(pattern.split('.'), 0, packageNames)
+        return packageNames.toList()
+    }
+
+    private fun Node.collectMatches(segments: List<String>, index: Int, packageNames: MutableSet<String>) {
+        if (index == segments.size) {
+            packageName?.let { packageNames.add(it) }
+            return
+        }
+
+        when (val segment = segments[index]) {
+            MULTI_SEGMENT_WILDCARD -> {
+                collectMatches(segments, index + 1, packageNames)
+                children.values.forEach { it.collectMatches(segments, index, packageNames) }
+            }
+            SINGLE_SEGMENT_WILDCARD -> children.values.forEach { it.collectMatches(segments, index + 1, packageNames) }
+            else -> children[segment]?.collectMatches(segments, index + 1, packageNames)
+        }
+    }
+
+    private class Node {
+        val children = mutableMapOf<String, Node>()
+        var packageName: String? = null
+    }
+
+    companion object {
+        private const val SINGLE_SEGMENT_WILDCARD = "*"
+        private const val MULTI_SEGMENT_WILDCARD = "**"
+
+        fun isPattern(qualifiedTypeOrPackageName: String) = qualifiedTypeOrPackageName.contains(SINGLE_SEGMENT_WILDCARD)
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.marmer.annotationprocessing
+
+import com.squareup.javapoet.TypeName
+import javax.annotation.processing.ProcessingEnvironment
+import javax.lang.model.element.Element
+import javax.lang.model.element.ExecutableElement
+import javax.lang.model.element.TypeElement
+import javax.lang.model.type.TypeKind
+import javax.lang.model.type.TypeMirror
+
+/**
+ * Properties of types, computed once per type and shared by all generators of one processing round. The getters of
+ * supertypes are resolved only once as well, so common base types (e.g. a base entity or [Object]) are not walked again
+ * for each of their subtypes.
+ */
+class PropertyModelCache(private val processingEnv: ProcessingEnvironment) {
+    private val propertiesByType = mutableMapOf<TypeElement, List<Property>>()
+    private val gettersByType = mutableMapOf<TypeElement, List<ExecutableElement>>()
+
+    fun propertiesOf(type: TypeElement): List<Property> =
+        propertiesByType.getOrPut(type) { type.computeProperties() }
+
+    private fun TypeElement.computeProperties() = transitiveGetters
+        .distinctBy { it.simpleName }
+        .map {
+            Property(
+                name = it.simpleName.toString().withoutPropertyPrefix(),
+                type = TypeName.get(it.returnType),
+                accessor = it.simpleName.toString()
+            )
+        }
+
+    /**
+     * Getters of the type followed by the getters of its superclasses and interfaces in depth first order. Each type
+     * is resolved only once per round, so shared supertypes (e.g. diamond shaped interfaces) are not expanded again
+     * for each path leading to them.
+     */
+    private val TypeElement.transitiveGetters: List<ExecutableElement>
+        get() = gettersByType[this] ?: computeTransitiveGetters().also { gettersByType[this] = it }
+
+    private fun TypeElement.computeTransitiveGetters(): List<ExecutableElement> {
+        val getters = LinkedHashSet<ExecutableElement>()
+        enclosedElements.filter { it.isProperty }.mapTo(getters) { it as ExecutableElement }
+        directSupertypes.forEach { getters.addAll(it.transitiveGetters) }
+        return getters.toList()
+    }
+
+    private val TypeElement.directSupertypes: List<TypeElement>
+        get() = (if (superclass.kind != TypeKind.NONE) listOf(superclass) else emptyList())
+            .plus(interfaces)
+            .map { it.asTypeElement() }
+
+    private fun TypeMirror.asTypeElement() =
+        (processingEnv.typeUtils.asElement(this) as TypeElement)
+
+    private val Element.isProperty
+        get() =
+            this is ExecutableElement &&
+                    isPublic &&
+                    !isStatic &&
+                    hasReturnTypeWithMatchingPropertyPrefix() &&
+                    hasNoParameters()
+
+    private fun ExecutableElement.hasReturnTypeWithMatchingPropertyPrefix() =
+        hasReturnType() &&
+                simpleName.startsWith("get") && returnType.kind != TypeKind.BOOLEAN ||
+                (simpleName.startsWith("is") && returnType.kind == TypeKind.BOOLEAN)
+
+    private fun ExecutableElement.hasReturnType() =
+        returnType.kind != TypeKind.VOID
+
+    private fun ExecutableElement.hasNoParameters() =
+        this.parameters.isEmpty()
+}
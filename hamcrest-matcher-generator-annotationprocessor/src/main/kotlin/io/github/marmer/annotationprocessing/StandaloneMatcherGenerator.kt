@@ -0,0 +1,165 @@
+package io.github.marmer.annotationprocessing
+
+import io.github.classgraph.ClassGraph
+import io.github.classgraph.ClassInfo
+import io.github.classgraph.ScanResult
+import io.github.marmer.annotationprocessing.MatcherGenerationProcessorWorker.Companion.TIMESTAMP_NONE
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.GeneratedBeanMatcher
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.PropertyAccess
+import java.io.File
+import java.io.IOException
+import java.nio.file.Files
+import java.nio.file.Path
+import java.time.LocalDateTime
+import java.time.format.DateTimeParseException
+import java.util.stream.Collectors
+
+/**
+ * Generates matchers for compiled classes without annotation processing, e.g. for types of third party jars or of huge
+ * generated model modules. Class directories and jars are scanned by ClassGraph and matchers are rendered on all cores.
+ * Generated matchers are marked like the ones of the [MatcherGenerationProcessor] and look the same.
+ *
+ * Types which are matchers themselves are skipped, so matchers compiled by former builds are not picked up again.
+ */
+class StandaloneMatcherGenerator(
+    /**
+     * Class directories and jars to scan. Supertypes of the configured types should be part of it as well.
+     */
+    private val classpath: List<Path>,
+    private val outputDirectory: Path,
+    packageConfig: String,
+    propertyAccess: PropertyAccess,
+    generationTimeStamp: () -> LocalDateTime?
+) {
+    private val matcherModelFactory = MatcherModelFactory(
+        generationTimeStamp,
+        MatcherGenerationProcessor::class.java.name,
+        packageConfig,
+        propertyAccess
+    )
+
+    /**
+     * @param typesOrPackages Package names, package patterns and full qualified class names, like they are configured
+     * with [io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.value].
+     */
+    @Throws(IOException::class)
+    fun generate(typesOrPackages: List<String>): StandaloneGenerationResult {
+        val warnings = mutableListOf<String>()
+        val models = scanFor(typesOrPackages).use { scanResult ->
+            val extractor = BytecodeMatcherModelExtractor(scanResult, matcherModelFactory, warnings::add)
+            val topLevelTypesByPackage = scanResult.allClasses
+                .filter { !it.isInnerClass && !it.isSynthetic && !it.isGeneratedMatcher }
+                .groupBy { it.packageName }
+            val packageIndex = lazy { PackageIndex(topLevelTypesByPackage.keys) }
+
+            typesOrPackages.distinct()
+                .flatMap {
+                    val types =
+                        if (PackageIndex.isPattern(it))
+                            packageIndex.value.resolve(it).flatMap { packageName -> topLevelTypesByPackage.getValue(packageName) }
+                        else
+                            topLevelTypesByPackage[it].orEmpty() + listOfNotNull(scanResult.outermostTypeOf(it))
+                    if (types.isEmpty()) {
+                        warnings += "Neither a type nor a package exists for '$it'"
+                    }
+                    types
+                }
+                .distinct()
+                .map { extractor.extract(it) }
+        }
+
+        val generatedFiles = models.parallelStream()
+            .map { MatcherGenerator(it).generate().writeTo(outputDirectory) }
+            .collect(Collectors.toList())
+        return StandaloneGenerationResult(generatedFiles, warnings)
+    }
+
+    /**
+     * The generation marker is not retained in class files, so generated matchers are recognized by their superclass.
+     * The name is enough for that, even if the dependencies jar holding it is not part of the scanned classpath. Other
+     * matchers (e.g. hand written ones) get a matcher like with the annotation processor.
+     */
+    private val ClassInfo.isGeneratedMatcher: Boolean
+        get() = extendsSuperclass(GeneratedBeanMatcher::class.java.name)
+
+    /**
+     * Only the configured packages (and the packages of configured types) are scanned, supertypes in other packages are
+     * resolved by ClassGraph on demand.
+     */
+    private fun scanFor(typesOrPackages: List<String>): ScanResult {
+        val (patterns, names) = typesOrPackages.partition { PackageIndex.isPattern(it) }
+        val patternRoots = patterns.map { pattern -> pattern.split('.').takeWhile { !PackageIndex.isPattern(it) } }
+
+        val classGraph = ClassGraph()
+            .overrideClasspath(classpath.map { it.toFile() })
+            .enableClassInfo()
+            .enableMethodInfo()
+            .ignoreClassVisibility()
+        if (patternRoots.none { it.isEmpty() }) {
+            classGraph
+                .acceptPackages(*patternRoots.map { it.joinToString(".") }.toTypedArray())
+                .acceptPackagesNonRecursive(*names.flatMap { it.packagePrefixes() }.distinct().toTypedArray())
+        }
+        return classGraph.scan(Runtime.getRuntime().availableProcessors())
+    }
+
+    /**
+     * The name of a nested type may be the name of a package as well, e.g. a.b.Outer.Inner.
+     */
+    private fun String.packagePrefixes() =
+        split('.').runningReduce { prefix, segment -> "$prefix.$segment" }
+
+    /**
+     * Matchers for nested types are generated as part of the matcher of their outermost type.
+     */
+    private fun ScanResult.outermostTypeOf(canonicalName: String): ClassInfo? =
+        generateSequence(canonicalName) { name ->
+            if (name.contains('.')) "${name.substringBeforeLast('.')}$${name.substringAfterLast('.')}" else null
+        }
+            .mapNotNull { getClassInfo(it) }
+            .firstOrNull { !it.isExternalClass }
+            ?.let { it.outerClasses.lastOrNull() ?: it }
+
+    private fun RenderedMatcher.writeTo(directory: Path): Path {
+        val file = directory.resolve("${model.qualifiedName.replace('.', File.separatorChar)}.java")
+        Files.createDirectories(file.parent)
+        Files.writeString(file, source)
+        return file
+    }
+
+    companion object {
+        /**
+         * Generation date of the generated matchers, shared by all frontends.
+         *
+         * @param option [TIMESTAMP_NONE] to omit the generation date, an ISO-8601 date time to fix it or null to use the
+         * time of [timeProvider].
+         * @throws IllegalArgumentException if the option is neither of them.
+         */
+        @JvmStatic
+        @JvmOverloads
+        fun timeStampFor(
+            option: String?,
+            timeProvider: () -> LocalDateTime = LocalDateTime::now
+        ): () -> LocalDateTime? =
+            when (option) {
+                null -> timeProvider
+                TIMESTAMP_NONE -> { -> null }
+                else -> parseTimeStamp(option).let { timeStamp -> { timeStamp } }
+            }
+
+        private fun parseTimeStamp(option: String) =
+            try {
+                LocalDateTime.parse(option)
+            } catch (e: DateTimeParseException) {
+                throw IllegalArgumentException(
+                    "Invalid timestamp '$option'. Use '$TIMESTAMP_NONE' or an ISO-8601 date time like '2021-06-01T12:00:00'",
+                    e
+                )
+            }
+    }
+}
+
+/**
+ * Outcome of a [StandaloneMatcherGenerator] run.
+ */
+data class StandaloneGenerationResult(val generatedFiles: List<Path>, val warnings: List<String>)
@@ -0,0 +1,88 @@
+package io.github.marmer.annotationprocessing
+
+import io.github.marmer.annotationprocessing.MatcherGenerationProcessorWorker.Companion.TIMESTAMP_NONE
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.PropertyAccess
+import java.io.File
+import java.io.IOException
+import java.io.PrintStream
+import java.nio.file.Paths
+import kotlin.system.exitProcess
+
+/**
+ * Command line interface of the [StandaloneMatcherGenerator].
+ */
+object StandaloneMatcherGeneratorCli {
+    private const val CLASSPATH_OPTION = "--classpath"
+    private const val OUTPUT_OPTION = "--output"
+    private const val PACKAGE_OPTION = "--package"
+    private const val PROPERTY_ACCESS_OPTION = "--property-access"
+    private const val TIMESTAMP_OPTION = "--timestamp"
+    private val OPTIONS = setOf(CLASSPATH_OPTION, OUTPUT_OPTION, PACKAGE_OPTION, PROPERTY_ACCESS_OPTION, TIMESTAMP_OPTION)
+
+    private val usage = """
+        Usage: ${StandaloneMatcherGeneratorCli::class.java.name} $CLASSPATH_OPTION <paths> $OUTPUT_OPTION <directory> [options] <type or package>...
+
+        Types and packages are configured like for @MatcherConfiguration, package patterns are supported as well.
+
+          $CLASSPATH_OPTION <paths>          Class directories and jars to scan, separated by '${File.pathSeparator}'
+          $OUTPUT_OPTION <directory>        Directory to write the matcher sources to
+          $PACKAGE_OPTION <package>         Base package of the generated matchers
+          $PROPERTY_ACCESS_OPTION <access>  ${PropertyAccess.values().joinToString("|")} (default: ${PropertyAccess.REFLECTION})
+          $TIMESTAMP_OPTION <timestamp>     '$TIMESTAMP_NONE' or an ISO-8601 date time to use as generation date
+        """.trimIndent()
+
+    @JvmStatic
+    fun main(args: Array<String>) {
+        val exitCode = run(args, System.out, System.err)
+        if (exitCode != 0) {
+            exitProcess(exitCode)
+        }
+    }
+
+    /**
+     * @return Exit code of the run.
+     */
+    fun run(args: Array<String>, out: PrintStream, err: PrintStream): Int {
+        val options = mutableMapOf<String, String>()
+        val typesOrPackages = mutableListOf<String>()
+        val arguments = args.iterator()
+        while (arguments.hasNext()) {
+            val argument = arguments.next()
+            when {
+                !argument.startsWith("--") -> typesOrPackages += argument
+                argument in OPTIONS && arguments.hasNext() -> options[argument] = arguments.next()
+                else -> return printUsageError(err, "Invalid option or missing value: $argument")
+            }
+        }
+        val classpath = options[CLASSPATH_OPTION] ?: return printUsageError(err, "Missing option $CLASSPATH_OPTION")
+        val outputDirectory = options[OUTPUT_OPTION] ?: return printUsageError(err, "Missing option $OUTPUT_OPTION")
+        if (typesOrPackages.isEmpty()) {
+            return printUsageError(err, "No types or packages to generate matchers for")
+        }
+
+        return try {
+            val result = StandaloneMatcherGenerator(
+                classpath.split(File.pathSeparator).filter { it.isNotBlank() }.map { Paths.get(it) },
+                Paths.get(outputDirectory),
+                options[PACKAGE_OPTION].orEmpty(),
+                PropertyAccess.valueOf(options[PROPERTY_ACCESS_OPTION] ?: PropertyAccess.REFLECTION.name),
+                StandaloneMatcherGenerator.timeStampFor(options[TIMESTAMP_OPTION])
+            ).generate(typesOrPackages)
+            result.warnings.forEach { err.println("WARNING: $it") }
+            out.println("Generated ${result.generatedFiles.size} matchers in $outputDirectory")
+            0
+        } catch (e: IllegalArgumentException) {
+            printUsageError(err, e.message)
+        } catch (e: IOException) {
+            err.println("Matchers could not be written to $outputDirectory: $e")
+            1
+        }
+    }
+
+    private fun printUsageError(err: PrintStream, message: String?): Int {
+        err.println(message)
+        err.println()
+        err.println(usage)
+        return 2
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.marmer.annotationprocessing
+
+import com.squareup.javapoet.TypeName
+import java.lang.reflect.Modifier
+
+/**
+ * Getters declared by a type and the names of its direct supertypes, for readers which do not get properties from the
+ * javac model (e.g. from bytecode or from Kotlin symbols).
+ */
+internal class TypeDeclaration(val getters: List<Getter>, val supertypes: List<String>) {
+    companion object {
+        /**
+         * JDK classes are neither part of scanned classpaths nor of compiled sources, so they are read by reflection.
+         * Reflection does not tell in which order methods have been declared, so getters are ordered by name.
+         *
+         * @return Null, if the type is not a class of the JDK.
+         */
+        fun ofJdkClass(typeName: String): TypeDeclaration? =
+            try {
+                Class.forName(typeName, false, ClassLoader.getPlatformClassLoader()).toDeclaration()
+            } catch (e: ClassNotFoundException) {
+                null
+            }
+
+        private fun Class<*>.toDeclaration() = TypeDeclaration(
+            getters = declaredMethods
+                .filter {
+                    Modifier.isPublic(it.modifiers) && !Modifier.isStatic(it.modifiers) &&
+                            !it.isBridge && !it.isSynthetic && it.parameterCount == 0
+                }
+                .sortedBy { it.name }
+                .map { Getter(it.name, TypeName.get(it.genericReturnType)) }
+                .filter { it.isPropertyAccessor },
+            supertypes = listOfNotNull(superclass?.name) + interfaces.map { it.name }
+        )
+    }
+}
+
+/**
+ * A public method without parameters, which is a property accessor if its name and return type say so (like it is
+ * decided by the [PropertyModelCache] for the javac model).
+ */
+internal data class Getter(val accessor: String, val type: TypeName) {
+    val isPropertyAccessor
+        get() = type != TypeName.VOID && accessor.startsWith("get") && type != TypeName.BOOLEAN ||
+                accessor.startsWith("is") && type == TypeName.BOOLEAN
+
+    fun toProperty() = Property(accessor.withoutPropertyPrefix(), type, accessor)
+}
@@ -0,0 +1,132 @@
+package io.github.marmer.annotationprocessing
+
+import com.google.testing.compile.Compilation
+import com.google.testing.compile.CompilationSubject.assertThat
+import com.google.testing.compile.Compiler.javac
+import com.google.testing.compile.JavaFileObjects
+import org.intellij.lang.annotations.Language
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import java.nio.file.Files
+import java.nio.file.Path
+import javax.tools.JavaFileObject
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+internal class MatcherGenerationProcessorCacheIT {
+    @TempDir
+    lateinit var cacheDir: Path
+
+    @Language("JAVA")
+    private val configuration = JavaFileObjects.forSourceLines(
+        "some.pck.SomeConfiguration", """
+            package some.pck;
+
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration;
+
+            @MatcherConfiguration("some.other.pck.SimplePojo")
+            public final class SomeConfiguration{
+            }""".trimIndent()
+    )
+
+    @Language("JAVA")
+    private val simplePojo = JavaFileObjects.forSourceLines(
+        "some.other.pck.SimplePojo", """
+            package some.other.pck;
+
+            public class SimplePojo{
+                public String getSomeProperty(){
+                    return "someValue";
+                }
+            }""".trimIndent()
+    )
+
+    @Language("JAVA")
+    private val changedSimplePojo = JavaFileObjects.forSourceLines(
+        "some.other.pck.SimplePojo", """
+            package some.other.pck;
+
+            public class SimplePojo{
+                public String getSomeProperty(){
+                    return "someValue";
+                }
+
+                public String getAddedProperty(){
+                    return "addedValue";
+                }
+            }""".trimIndent()
+    )
+
+    @Test
+    fun `Sources of unchanged types should be reused from the cache`() {
+        // Preparation
+        assertThat(compile(simplePojo)).succeeded()
+        markCachedSource()
+
+        // Execution
+        val compilation = compile(simplePojo)
+
+        // Assertion
+        assertThat(compilation).succeeded()
+        assertTrue(compilation.generatedMatcherSource().contains("// cached"))
+    }
+
+    @Test
+    fun `Sources of changed types should be rendered again`() {
+        // Preparation
+        assertThat(compile(simplePojo)).succeeded()
+        markCachedSource()
+
+        // Execution
+        val compilation = compile(changedSimplePojo)
+
+        // Assertion
+        assertThat(compilation).succeeded()
+        val generatedSource = compilation.generatedMatcherSource()
+        assertFalse(generatedSource.contains("// cached"))
+        assertTrue(generatedSource.contains("withAddedProperty"))
+    }
+
+    @Test
+    fun `Sources should be rendered again if the generation date format changes`() {
+        // Preparation
+        assertThat(compile(simplePojo)).succeeded()
+        markCachedSource()
+
+        // Execution
+        val compilation = compile(simplePojo, "-Amatchergen.timestamp=2021-06-01T12:00")
+
+        // Assertion
+        assertThat(compilation).succeeded()
+        assertFalse(compilation.generatedMatcherSource().contains("// cached"))
+    }
+
+    @Test
+    fun `The version of the generator should be part of the cache salt`() {
+        // Preparation
+        val version = checkNotNull(System.getProperty("project.version")) { "project.version has not been passed" }
+
+        // Execution
+        assertThat(compile(simplePojo)).succeeded()
+
+        // Assertion
+        val index = Files.readString(cacheDir.resolve("index.properties"))
+        assertTrue(
+            index.contains("#${MatcherGenerationProcessor::class.java.name} $version "),
+            index
+        )
+    }
+
+    private fun markCachedSource() {
+        val cachedSource = cacheDir.resolve("some.other.pck.SimplePojoMatcher.java")
+        Files.writeString(cachedSource, Files.readString(cachedSource) + "// cached\n")
+    }
+
+    private fun compile(pojo: JavaFileObject, vararg options: String): Compilation = javac()
+        .withProcessors(MatcherGenerationProcessor())
+        .withOptions("-Amatchergen.cacheDir=$cacheDir", "-Amatchergen.timestamp=none", *options)
+        .compile(configuration, pojo)
+
+    private fun Compilation.generatedMatcherSource() =
+        generatedSourceFile("some.other.pck.SimplePojoMatcher").get().getCharContent(true).toString()
+}
@@ -0,0 +1,135 @@
+package io.github.marmer.annotationprocessing
+
+import com.google.testing.compile.CompilationSubject.assertThat
+import com.google.testing.compile.Compiler.javac
+import com.google.testing.compile.JavaFileObjects
+import org.intellij.lang.annotations.Language
+import org.junit.jupiter.api.Test
+import kotlin.test.assertEquals
+
+internal class MatcherGenerationProcessorDeduplicationIT {
+    @Language("JAVA")
+    private val simplePojo = JavaFileObjects.forSourceLines(
+        "some.other.pck.SimplePojo", """
+            package some.other.pck;
+
+            public class SimplePojo{
+                public String getSomeProperty(){
+                    return "someValue";
+                }
+            }""".trimIndent()
+    )
+
+    @Language("JAVA")
+    private val otherPojo = JavaFileObjects.forSourceLines(
+        "some.other.pck.OtherPojo", """
+            package some.other.pck;
+
+            public class OtherPojo{
+                public String getOtherProperty(){
+                    return "otherValue";
+                }
+            }""".trimIndent()
+    )
+
+    @Language("JAVA")
+    private val packageConfiguration = JavaFileObjects.forSourceLines(
+        "some.pck.PackageConfiguration", """
+            package some.pck;
+
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration;
+
+            @MatcherConfiguration("some.other.pck")
+            public final class PackageConfiguration{
+            }""".trimIndent()
+    )
+
+    @Language("JAVA")
+    private val typeConfiguration = JavaFileObjects.forSourceLines(
+        "some.pck.TypeConfiguration", """
+            package some.pck;
+
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration;
+
+            @MatcherConfiguration("some.other.pck.SimplePojo")
+            public final class TypeConfiguration{
+            }""".trimIndent()
+    )
+
+    @Test
+    fun `Matchers requested by several configurations should be generated once for all of them`() {
+        // Preparation
+        val originatingElements = mutableMapOf<String, List<String>>()
+
+        // Execution
+        val compilation = javac()
+            .withProcessors(OriginatingElementsRecordingProcessor(MatcherGenerationProcessor(), originatingElements))
+            .compile(packageConfiguration, typeConfiguration, simplePojo, otherPojo)
+
+        // Assertion
+        assertThat(compilation).succeeded()
+        assertEquals(
+            mapOf(
+                "some.other.pck.SimplePojoMatcher" to
+                        listOf("some.other.pck.SimplePojo", "some.pck.PackageConfiguration", "some.pck.TypeConfiguration"),
+                "some.other.pck.OtherPojoMatcher" to
+                        listOf("some.other.pck.OtherPojo", "some.pck.PackageConfiguration")
+            ),
+            originatingElements
+        )
+    }
+
+    @Test
+    fun `Matchers requested with different packages should be generated for each package`() {
+        // Preparation
+        @Language("JAVA") val prefixedConfiguration = JavaFileObjects.forSourceLines(
+            "some.pck.PrefixedConfiguration", """
+                package some.pck;
+
+                import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration;
+                import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration;
+                import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.PackageConfiguration;
+
+                @MatcherConfiguration(value = "some.other.pck.SimplePojo", generation = @GenerationConfiguration(packageConfig = @PackageConfiguration("prefixed")))
+                public final class PrefixedConfiguration{
+                }""".trimIndent()
+        )
+
+        // Execution
+        val compilation = javac()
+            .withProcessors(MatcherGenerationProcessor())
+            .compile(typeConfiguration, prefixedConfiguration, simplePojo)
+
+        // Assertion
+        assertThat(compilation).succeeded()
+        assertThat(compilation).generatedSourceFile("some.other.pck.SimplePojoMatcher")
+        assertThat(compilation).generatedSourceFile("prefixed.some.other.pck.SimplePojoMatcher")
+    }
+
+    @Test
+    fun `Conflicting generation settings for the same matcher should be reported as error`() {
+        // Preparation
+        @Language("JAVA") val getterConfiguration = JavaFileObjects.forSourceLines(
+            "some.pck.GetterConfiguration", """
+                package some.pck;
+
+                import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration;
+                import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration;
+                import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.PropertyAccess;
+
+                @MatcherConfiguration(value = "some.other.pck.SimplePojo", generation = @GenerationConfiguration(propertyAccess = PropertyAccess.GETTER))
+                public final class GetterConfiguration{
+                }""".trimIndent()
+        )
+
+        // Execution
+        val compilation = javac()
+            .withProcessors(MatcherGenerationProcessor())
+            .compile(typeConfiguration, getterConfiguration, simplePojo)
+
+        // Assertion
+        assertThat(compilation)
+            .hadErrorContaining("Generation settings for 'some.other.pck.SimplePojoMatcher' conflict with those of some.pck.TypeConfiguration")
+            .inFile(getterConfiguration)
+    }
+}
@@ -0,0 +1,191 @@
+package io.github.marmer.annotationprocessing
+
+import com.google.common.truth.Truth
+import com.google.testing.compile.JavaFileObjects
+import com.google.testing.compile.JavaSourcesSubjectFactory
+import org.intellij.lang.annotations.Language
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import java.io.File
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.*
+import javax.annotation.processing.Processor
+import javax.tools.JavaFileObject
+import javax.tools.ToolProvider
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+
+/**
+ * Checks the contract of Gradle's incremental annotation processing for aggregating processors.
+ */
+internal class MatcherGenerationProcessorIncrementalIT {
+    @Language("JAVA")
+    private val configuration = JavaFileObjects.forSourceLines(
+        "some.pck.SomeConfiguration", """
+            package some.pck;
+
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration;
+
+            @MatcherConfiguration("some.other.pck")
+            public final class SomeConfiguration{
+            }""".trimIndent()
+    )
+
+    @Language("JAVA")
+    private val simplePojo = JavaFileObjects.forSourceLines(
+        "some.other.pck.SimplePojo", """
+            package some.other.pck;
+
+            public class SimplePojo{
+                public String getSomeProperty(){
+                    return "someValue";
+                }
+            }""".trimIndent()
+    )
+
+    @Language("JAVA")
+    private val otherPojo = JavaFileObjects.forSourceLines(
+        "some.other.pck.OtherPojo", """
+            package some.other.pck;
+
+            public class OtherPojo{
+                public String getOtherProperty(){
+                    return "otherValue";
+                }
+            }""".trimIndent()
+    )
+
+    @Language("JAVA")
+    private val changedSimplePojo = JavaFileObjects.forSourceLines(
+        "some.other.pck.SimplePojo", """
+            package some.other.pck;
+
+            public class SimplePojo{
+                public String getSomeProperty(){
+                    return "someValue";
+                }
+
+                public String getAddedProperty(){
+                    return "addedValue";
+                }
+            }""".trimIndent()
+    )
+
+    @Test
+    fun `Processor should be registered as aggregating processor for Gradle`() {
+        // Execution
+        val registration = MatcherGenerationProcessor::class.java.classLoader
+            .getResource("META-INF/gradle/incremental.annotation.processors")!!
+            .readText()
+
+        // Assertion
+        assertEquals("${MatcherGenerationProcessor::class.qualifiedName},aggregating", registration.trim())
+    }
+
+    @Test
+    fun `Each generated matcher should originate from its type and configuration only`() {
+        // Preparation
+        val originatingElements = mutableMapOf<String, List<String>>()
+
+        // Execution
+        Truth.assert_()
+            .about(JavaSourcesSubjectFactory.javaSources())
+            .that(Arrays.asList(configuration, simplePojo, otherPojo))
+            .processedWith(OriginatingElementsRecordingProcessor(MatcherGenerationProcessor(), originatingElements))
+            .compilesWithoutError()
+
+        // Assertion
+        assertEquals(
+            mapOf(
+                "some.other.pck.SimplePojoMatcher" to listOf("some.other.pck.SimplePojo", "some.pck.SomeConfiguration"),
+                "some.other.pck.OtherPojoMatcher" to listOf("some.other.pck.OtherPojo", "some.pck.SomeConfiguration")
+            ),
+            originatingElements
+        )
+    }
+
+    @Test
+    fun `Configurations of unchanged class files should be processed again`(@TempDir tempDir: Path) {
+        // Preparation
+        val classpath = System.getProperty("java.class.path")
+        val configurationClasses = Files.createDirectory(tempDir.resolve("configuration-classes"))
+        val classes = Files.createDirectory(tempDir.resolve("classes"))
+        val generatedSources = Files.createDirectory(tempDir.resolve("generated-sources"))
+        compile(
+            listOf("-proc:none", "-classpath", classpath, "-d", configurationClasses.toString()),
+            emptyList(),
+            listOf(configuration)
+        )
+
+        // Execution
+        val success = compile(
+            listOf(
+                "-classpath", classpath + File.pathSeparator + configurationClasses,
+                "-d", classes.toString(),
+                "-s", generatedSources.toString()
+            ),
+            listOf("some.pck.SomeConfiguration"),
+            listOf(simplePojo),
+            MatcherGenerationProcessor()
+        )
+
+        // Assertion
+        assertTrue(success)
+        assertTrue(Files.exists(generatedSources.resolve("some/other/pck/SimplePojoMatcher.java")))
+    }
+
+    /**
+     * Aggregating processors cannot regenerate only the matcher of a changed type. Gradle recompiles the changed source
+     * and processes all configurations again, with the unchanged types as class files of the former compilation.
+     */
+    @Test
+    fun `A change of one type should generate the matchers of all types of its configuration again`(@TempDir tempDir: Path) {
+        // Preparation
+        val classpath = System.getProperty("java.class.path")
+        val classes = Files.createDirectory(tempDir.resolve("classes"))
+        val generatedSources = Files.createDirectory(tempDir.resolve("generated-sources"))
+        compile(
+            listOf("-proc:none", "-classpath", classpath, "-d", classes.toString()),
+            emptyList(),
+            listOf(configuration, simplePojo, otherPojo)
+        )
+
+        // Execution
+        val success = compile(
+            listOf(
+                "-classpath", classpath + File.pathSeparator + classes,
+                "-d", classes.toString(),
+                "-s", generatedSources.toString(),
+                "-Amatchergen.timestamp=none"
+            ),
+            listOf("some.pck.SomeConfiguration"),
+            listOf(changedSimplePojo),
+            MatcherGenerationProcessor()
+        )
+
+        // Assertion
+        assertTrue(success)
+        assertTrue(
+            Files.readString(generatedSources.resolve("some/other/pck/SimplePojoMatcher.java"))
+                .contains("withAddedProperty")
+        )
+        assertTrue(Files.exists(generatedSources.resolve("some/other/pck/OtherPojoMatcher.java")))
+    }
+
+    private fun compile(
+        options: List<String>,
+        classNames: List<String>,
+        sources: List<JavaFileObject>,
+        vararg processors: Processor
+    ): Boolean {
+        val compiler = ToolProvider.getSystemJavaCompiler()
+        compiler.getStandardFileManager(null, null, null).use { fileManager ->
+            val task = compiler.getTask(null, fileManager, null, options, classNames, sources)
+            if (processors.isNotEmpty()) {
+                task.setProcessors(processors.toList())
+            }
+            return task.call()
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package io.github.marmer.annotationprocessing
+
+import com.google.testing.compile.Compilation
+import com.google.testing.compile.CompilationSubject.assertThat
+import com.google.testing.compile.Compiler.javac
+import com.google.testing.compile.JavaFileObjects
+import org.intellij.lang.annotations.Language
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import java.io.File
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.stream.Collectors
+import javax.tools.JavaFileObject
+import javax.tools.ToolProvider
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+
+internal class MatcherGenerationProcessorPackagePatternIT {
+    private val models = listOf(
+        "some.other.pck.RootPojo",
+        "some.other.pck.a.SimplePojo",
+        "some.other.pck.a.dto.SimpleDto",
+        "some.other.pck.b.dto.OtherDto",
+        "some.other.pck.b.internal.dto.InternalDto",
+        "some.unrelated.pck.dto.UnrelatedDto"
+    ).map {
+        @Language("JAVA") val source = """
+            package ${it.substringBeforeLast('.')};
+
+            public class ${it.substringAfterLast('.')}{
+                public String getSomeProperty(){
+                    return "someValue";
+                }
+            }""".trimIndent()
+        JavaFileObjects.forSourceString(it, source)
+    }
+
+    @Test
+    fun `Double wildcards should match a package and all of its subpackages`() {
+        // Execution
+        val compilation = compileWithConfiguration("some.other.pck.**")
+
+        // Assertion
+        assertThat(compilation).succeeded()
+        assertEquals(
+            listOf(
+                "some.other.pck.RootPojoMatcher",
+                "some.other.pck.a.SimplePojoMatcher",
+                "some.other.pck.a.dto.SimpleDtoMatcher",
+                "some.other.pck.b.dto.OtherDtoMatcher",
+                "some.other.pck.b.internal.dto.InternalDtoMatcher"
+            ),
+            compilation.generatedMatcherNames()
+        )
+    }
+
+    @Test
+    fun `Single wildcards should match exactly one package segment`() {
+        // Execution
+        val compilation = compileWithConfiguration("some.other.pck.*.dto")
+
+        // Assertion
+        assertThat(compilation).succeeded()
+        assertEquals(
+            listOf("some.other.pck.a.dto.SimpleDtoMatcher", "some.other.pck.b.dto.OtherDtoMatcher"),
+            compilation.generatedMatcherNames()
+        )
+    }
+
+    @Test
+    fun `Wildcards should be combinable`() {
+        // Execution
+        val compilation = compileWithConfiguration("some.*.pck.**.dto")
+
+        // Assertion
+        assertThat(compilation).succeeded()
+        assertEquals(
+            listOf(
+                "some.other.pck.a.dto.SimpleDtoMatcher",
+                "some.other.pck.b.dto.OtherDtoMatcher",
+                "some.other.pck.b.internal.dto.InternalDtoMatcher",
+                "some.unrelated.pck.dto.UnrelatedDtoMatcher"
+            ),
+            compilation.generatedMatcherNames()
+        )
+    }
+
+    @Test
+    fun `Print a warning for patterns without matching packages`() {
+        // Execution
+        val compilation = compileWithConfiguration("some.other.pck.*.nothing")
+
+        // Assertion
+        assertThat(compilation).succeeded()
+        assertThat(compilation).hadWarningContaining("Neither a type nor a type exists for 'some.other.pck.*.nothing'")
+    }
+
+    @Test
+    fun `Wildcards should match packages only located in the classpath`() {
+        // Execution
+        val compilation = compileWithConfiguration("some.classpath.**")
+
+        // Assertion
+        assertThat(compilation).succeeded()
+        assertEquals(
+            listOf("some.classpath.pck.ClasspathPojoMatcher", "some.classpath.pck.sub.ClasspathSubPojoMatcher"),
+            compilation.generatedMatcherNames()
+        )
+    }
+
+    @Test
+    fun `Wildcards should match packages compiled by former compilations`(@TempDir outputDir: Path) {
+        // Preparation
+        val generatedSourcesDir = Files.createDirectory(outputDir.resolve("generated"))
+        val classesDir = Files.createDirectory(outputDir.resolve("classes"))
+        assertTrue(compile(models, classesDir, generatedSourcesDir, "-proc:none"))
+
+        // Execution
+        val succeeded = compile(
+            listOf(configurationFor("some.other.pck.*.dto")),
+            classesDir,
+            generatedSourcesDir,
+            "-Amatchergen.timestamp=none"
+        )
+
+        // Assertion
+        assertTrue(succeeded)
+        assertEquals(
+            listOf("some.other.pck.a.dto.SimpleDtoMatcher", "some.other.pck.b.dto.OtherDtoMatcher"),
+            Files.walk(generatedSourcesDir).use { paths ->
+                paths.filter { Files.isRegularFile(it) }
+                    .map { generatedSourcesDir.relativize(it).toString().removeSuffix(".java") }
+                    .map { it.replace(File.separatorChar, '.') }
+                    .sorted()
+                    .collect(Collectors.toList())
+            }
+        )
+    }
+
+    /**
+     * Compiles like an incremental build does, with the class output of former compilations in the classpath.
+     */
+    private fun compile(
+        sources: List<JavaFileObject>,
+        classesDir: Path,
+        generatedSourcesDir: Path,
+        vararg options: String
+    ): Boolean {
+        val classpath = "$classesDir${File.pathSeparator}${System.getProperty("java.class.path")}"
+        val task = ToolProvider.getSystemJavaCompiler().getTask(
+            null,
+            null,
+            null,
+            listOf("-d", classesDir.toString(), "-s", generatedSourcesDir.toString(), "-classpath", classpath, *options),
+            null,
+            sources
+        )
+        task.setProcessors(listOf(MatcherGenerationProcessor()))
+        return task.call()
+    }
+
+    private fun compileWithConfiguration(packagePattern: String): Compilation =
+        javac()
+            .withProcessors(MatcherGenerationProcessor())
+            .compile(models + configurationFor(packagePattern))
+
+    private fun configurationFor(packagePattern: String): JavaFileObject {
+        @Language("JAVA") val configuration = JavaFileObjects.forSourceLines(
+            "some.pck.SomeConfiguration", """
+                package some.pck;
+
+                import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration;
+
+                @MatcherConfiguration("$packagePattern")
+                public final class SomeConfiguration{
+                }""".trimIndent()
+        )
+        return configuration
+    }
+
+    private fun Compilation.generatedMatcherNames() =
+        generatedSourceFiles()
+            .map { it.toUri().path.removePrefix("/SOURCE_OUTPUT/").removeSuffix(".java").replace('/', '.') }
+            .sorted()
+}
@@ -0,0 +1,97 @@
+package io.github.marmer.annotationprocessing
+
+import com.google.testing.compile.Compilation
+import com.google.testing.compile.CompilationSubject.assertThat
+import com.google.testing.compile.Compiler.javac
+import com.google.testing.compile.JavaFileObjects
+import org.intellij.lang.annotations.Language
+import org.junit.jupiter.api.Test
+import javax.tools.StandardLocation
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+internal class MatcherGenerationProcessorProfileIT {
+    @Language("JAVA")
+    private val configuration = JavaFileObjects.forSourceLines(
+        "some.pck.SomeConfiguration", """
+            package some.pck;
+
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration;
+
+            @MatcherConfiguration("some.other.pck")
+            public final class SomeConfiguration{
+            }""".trimIndent()
+    )
+
+    @Language("JAVA")
+    private val simplePojo = JavaFileObjects.forSourceLines(
+        "some.other.pck.SimplePojo", """
+            package some.other.pck;
+
+            public class SimplePojo{
+                public String getSomeProperty(){
+                    return "someValue";
+                }
+            }""".trimIndent()
+    )
+
+    @Language("JAVA")
+    private val otherPojo = JavaFileObjects.forSourceLines(
+        "some.other.pck.OtherPojo", """
+            package some.other.pck;
+
+            public class OtherPojo{
+                public int getOtherProperty(){
+                    return 42;
+                }
+            }""".trimIndent()
+    )
+
+    @Test
+    fun `Profiling report should contain the times of all phases per type`() {
+        // Execution
+        val compilation = compile("-Amatchergen.profile=true")
+
+        // Assertion
+        assertThat(compilation).succeeded()
+        val report = compilation.profilingReport()
+        assertTrue(report.contains("{\"configuration\": \"some.pck.SomeConfiguration\", \"scanningNanos\": "))
+        listOf("some.other.pck.OtherPojo", "some.other.pck.SimplePojo").forEach {
+            assertTrue(
+                Regex("\\{\"type\": \"$it\", \"extractionNanos\": \\d+, \"renderingNanos\": \\d+, \"writingNanos\": \\d+}")
+                    .containsMatchIn(report),
+                report
+            )
+        }
+        assertTrue(report.contains("\"totals\": {\"scanningNanos\": "))
+    }
+
+    @Test
+    fun `Profiling summary should be printed as note`() {
+        // Execution
+        val compilation = compile("-Amatchergen.profile=true")
+
+        // Assertion
+        assertThat(compilation).hadNoteContaining("Matcher generation of 2 types took ")
+        assertThat(compilation).hadNoteContaining("matchergen-profile.json")
+    }
+
+    @Test
+    fun `Nothing should be profiled by default`() {
+        // Execution
+        val compilation = compile()
+
+        // Assertion
+        assertThat(compilation).succeeded()
+        assertFalse(compilation.generatedFile(StandardLocation.CLASS_OUTPUT, "", "matchergen-profile.json").isPresent)
+    }
+
+    private fun compile(vararg options: String): Compilation = javac()
+        .withProcessors(MatcherGenerationProcessor())
+        .withOptions(*options)
+        .compile(configuration, simplePojo, otherPojo)
+
+    private fun Compilation.profilingReport() =
+        generatedFile(StandardLocation.CLASS_OUTPUT, "", "matchergen-profile.json").get()
+            .getCharContent(true).toString()
+}
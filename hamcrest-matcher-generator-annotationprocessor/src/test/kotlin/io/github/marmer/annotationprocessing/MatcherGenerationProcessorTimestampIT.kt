@@ -0,0 +1,92 @@
+package io.github.marmer.annotationprocessing
+
+import com.google.testing.compile.Compilation
+import com.google.testing.compile.CompilationSubject.assertThat
+import com.google.testing.compile.Compiler.javac
+import com.google.testing.compile.JavaFileObjects
+import org.intellij.lang.annotations.Language
+import org.junit.jupiter.api.Test
+import java.time.LocalDateTime
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+internal class MatcherGenerationProcessorTimestampIT {
+    private var time = LocalDateTime.of(2000, 1, 1, 0, 0)
+
+    @Language("JAVA")
+    private val configuration = JavaFileObjects.forSourceLines(
+        "some.pck.SomeConfiguration", """
+            package some.pck;
+
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration;
+
+            @MatcherConfiguration("some.other.pck.SimplePojo")
+            public final class SomeConfiguration{
+            }""".trimIndent()
+    )
+
+    @Language("JAVA")
+    private val simplePojo = JavaFileObjects.forSourceLines(
+        "some.other.pck.SimplePojo", """
+            package some.other.pck;
+
+            public class SimplePojo{
+                public String getSomeProperty(){
+                    return "someValue";
+                }
+
+                public static class InnerPojo{
+                    public int getInnerProperty(){
+                        return 42;
+                    }
+                }
+            }""".trimIndent()
+    )
+
+    @Test
+    fun `Generation date should be omitted if configured`() {
+        // Execution
+        val generatedSource = compile("-Amatchergen.timestamp=none").generatedMatcherSource()
+
+        // Assertion
+        assertTrue(generatedSource.contains("@Generated(\"${MatcherGenerationProcessor::class.qualifiedName}\")"))
+        assertFalse(generatedSource.contains("date ="))
+    }
+
+    @Test
+    fun `Generation date should be fixed if configured`() {
+        // Execution
+        val generatedSource = compile("-Amatchergen.timestamp=2021-06-01T12:00").generatedMatcherSource()
+
+        // Assertion
+        assertTrue(generatedSource.contains("date = \"2021-06-01T12:00\""))
+    }
+
+    @Test
+    fun `Identical inputs should generate identical sources if the generation date is omitted`() {
+        // Execution
+        val firstSource = compile("-Amatchergen.timestamp=none").generatedMatcherSource()
+        val secondSource = compile("-Amatchergen.timestamp=none").generatedMatcherSource()
+
+        // Assertion
+        assertEquals(firstSource, secondSource)
+    }
+
+    @Test
+    fun `Invalid generation dates should be reported as error`() {
+        // Execution
+        val compilation = compile("-Amatchergen.timestamp=yesterday")
+
+        // Assertion
+        assertThat(compilation).hadErrorContaining("Invalid timestamp 'yesterday'. Use 'none' or an ISO-8601 date time like '2021-06-01T12:00:00' (option matchergen.timestamp)")
+    }
+
+    private fun compile(vararg options: String): Compilation = javac()
+        .withProcessors(MatcherGenerationProcessor { time.plusSeconds(1).also { time = it } })
+        .withOptions(*options)
+        .compile(configuration, simplePojo)
+
+    private fun Compilation.generatedMatcherSource() =
+        generatedSourceFile("some.other.pck.SimplePojoMatcher").get().getCharContent(true).toString()
+}
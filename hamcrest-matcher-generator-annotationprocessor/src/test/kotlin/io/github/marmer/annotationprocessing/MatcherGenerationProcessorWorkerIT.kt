@@ -83,23 +83,18 @@ internal class MatcherGenerationProcessorIT {
             "sample.other.pck.OutputClass", """
             package some.other.pck;
             
-            import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.GeneratedBeanMatcher;
             import java.lang.Boolean;
             import java.lang.Class;
-            import java.lang.Override;
             import java.lang.String;
             import javax.annotation.processing.Generated;
-            import org.hamcrest.Description;
             import org.hamcrest.Matcher;
             import org.hamcrest.Matchers;
-            import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojoMatcher extends TypeSafeMatcher<SimplePojo> {
-                private final BeanPropertyMatcher<SimplePojo> beanPropertyMatcher;
-            
+            public class SimplePojoMatcher extends GeneratedBeanMatcher<SimplePojo, SimplePojoMatcher> {
                 public SimplePojoMatcher() {
-                    beanPropertyMatcher = new BeanPropertyMatcher<SimplePojo>(SimplePojo.class);
+                    super(SimplePojo.class);
                 }
             
                 public SimplePojoMatcher withSomeStringProperty(final Matcher<? super String> matcher) {
@@ -142,31 +137,14 @@ internal class MatcherGenerationProcessorIT {
                     return this;
                 }
             
-                @Override
-                public void describeTo(final Description description) {
-                    beanPropertyMatcher.describeTo(description);
-                }
-            
-                @Override
-                protected boolean matchesSafely(final SimplePojo item) {
-                    return beanPropertyMatcher.matches(item);
-                }
-            
-                @Override
-                protected void describeMismatchSafely(final SimplePojo item, final Description description) {
-                    beanPropertyMatcher.describeMismatch(item, description);
-                }
-            
                 public static SimplePojoMatcher isSimplePojo() {
                     return new SimplePojoMatcher();
                 }
             
                 @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-                public static class InnerStaticPojoMatcher extends TypeSafeMatcher<SimplePojo.InnerStaticPojo> {
-                    private final BeanPropertyMatcher<SimplePojo.InnerStaticPojo> beanPropertyMatcher;
-            
+                public static class InnerStaticPojoMatcher extends GeneratedBeanMatcher<SimplePojo.InnerStaticPojo, InnerStaticPojoMatcher> {
                     public InnerStaticPojoMatcher() {
-                        beanPropertyMatcher = new BeanPropertyMatcher<SimplePojo.InnerStaticPojo>(SimplePojo.InnerStaticPojo.class);
+                        super(SimplePojo.InnerStaticPojo.class);
                     }
             
                     public InnerStaticPojoMatcher withInnerStaticPojoProperty(final Matcher<? super String> matcher) {
@@ -189,30 +167,13 @@ internal class MatcherGenerationProcessorIT {
                         return this;
                     }
             
-                    @Override
-                    public void describeTo(final Description description) {
-                        beanPropertyMatcher.describeTo(description);
-                    }
-            
-                    @Override
-                    protected boolean matchesSafely(final SimplePojo.InnerStaticPojo item) {
-                        return beanPropertyMatcher.matches(item);
-                    }
-            
-                    @Override
-                    protected void describeMismatchSafely(final SimplePojo.InnerStaticPojo item, final Description description) {
-                        beanPropertyMatcher.describeMismatch(item, description);
-                    }
-            
                     public static InnerStaticPojoMatcher isInnerStaticPojo() {
                         return new InnerStaticPojoMatcher();
                     }
                     @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-                    public static class InnerInnerStaticPojoMatcher extends TypeSafeMatcher<SimplePojo.InnerStaticPojo.InnerInnerStaticPojo> {
-                        private final BeanPropertyMatcher<SimplePojo.InnerStaticPojo.InnerInnerStaticPojo> beanPropertyMatcher;
-            
+                    public static class InnerInnerStaticPojoMatcher extends GeneratedBeanMatcher<SimplePojo.InnerStaticPojo.InnerInnerStaticPojo, InnerInnerStaticPojoMatcher> {
                         public InnerInnerStaticPojoMatcher() {
-                            beanPropertyMatcher = new BeanPropertyMatcher<SimplePojo.InnerStaticPojo.InnerInnerStaticPojo>(SimplePojo.InnerStaticPojo.InnerInnerStaticPojo.class);
+                            super(SimplePojo.InnerStaticPojo.InnerInnerStaticPojo.class);
                         }
             
                         public InnerInnerStaticPojoMatcher withClass(final Matcher<? super Class<?>> matcher) {
@@ -225,21 +186,6 @@ internal class MatcherGenerationProcessorIT {
                             return this;
                         }
             
-                        @Override
-                        public void describeTo(final Description description) {
-                            beanPropertyMatcher.describeTo(description);
-                        }
-            
-                        @Override
-                        protected boolean matchesSafely(final SimplePojo.InnerStaticPojo.InnerInnerStaticPojo item) {
-                            return beanPropertyMatcher.matches(item);
-                        }
-            
-                        @Override
-                        protected void describeMismatchSafely(final SimplePojo.InnerStaticPojo.InnerInnerStaticPojo item, final Description description) {
-                            beanPropertyMatcher.describeMismatch(item, description);
-                        }
-            
                         public static InnerInnerStaticPojoMatcher isInnerInnerStaticPojo() {
                             return new InnerInnerStaticPojoMatcher();
                         }
@@ -285,21 +231,16 @@ internal class MatcherGenerationProcessorIT {
             "sample.other.pck.OutputClass", """
             package some.other.pck;
             
-            import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
-            import java.lang.Override;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.GeneratedBeanMatcher;
             import java.lang.String;
             import javax.annotation.processing.Generated;
-            import org.hamcrest.Description;
             import org.hamcrest.Matcher;
             import org.hamcrest.Matchers;
-            import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojoInterfaceMatcher extends TypeSafeMatcher<SimplePojoInterface> {
-                private final BeanPropertyMatcher<SimplePojoInterface> beanPropertyMatcher;
-            
+            public class SimplePojoInterfaceMatcher extends GeneratedBeanMatcher<SimplePojoInterface, SimplePojoInterfaceMatcher> {
                 public SimplePojoInterfaceMatcher() {
-                    beanPropertyMatcher = new BeanPropertyMatcher<SimplePojoInterface>(SimplePojoInterface.class);
+                    super(SimplePojoInterface.class);
                 }
             
                 public SimplePojoInterfaceMatcher withSomeStringProperty(final Matcher<? super String> matcher) {
@@ -312,21 +253,6 @@ internal class MatcherGenerationProcessorIT {
                     return this;
                 }
                 
-                @Override
-                public void describeTo(final Description description) {
-                    beanPropertyMatcher.describeTo(description);
-                }
-            
-                @Override
-                protected boolean matchesSafely(final SimplePojoInterface item) {
-                    return beanPropertyMatcher.matches(item);
-                }
-            
-                @Override
-                protected void describeMismatchSafely(final SimplePojoInterface item, final Description description) {
-                    beanPropertyMatcher.describeMismatch(item, description);
-                }
-                
                 public static SimplePojoInterfaceMatcher isSimplePojoInterface() {
                     return new SimplePojoInterfaceMatcher();
                 }
@@ -371,21 +297,16 @@ internal class MatcherGenerationProcessorIT {
             "sample.other.pck.OutputClass", """
             package some.other.pck;
             
-            import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
-            import java.lang.Override;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.GeneratedBeanMatcher;
             import java.lang.String;
             import javax.annotation.processing.Generated;
-            import org.hamcrest.Description;
             import org.hamcrest.Matcher;
             import org.hamcrest.Matchers;
-            import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojoInterfaceMatcher extends TypeSafeMatcher<SimplePojoInterface> {
-                private final BeanPropertyMatcher<SimplePojoInterface> beanPropertyMatcher;
-            
+            public class SimplePojoInterfaceMatcher extends GeneratedBeanMatcher<SimplePojoInterface, SimplePojoInterfaceMatcher> {
                 public SimplePojoInterfaceMatcher() {
-                    beanPropertyMatcher = new BeanPropertyMatcher<SimplePojoInterface>(SimplePojoInterface.class);
+                    super(SimplePojoInterface.class);
                 }
             
                 public SimplePojoInterfaceMatcher withConflictProperty(final Matcher<?> matcher) {
@@ -403,21 +324,6 @@ internal class MatcherGenerationProcessorIT {
                     return this;
                 }
                 
-                @Override
-                public void describeTo(final Description description) {
-                    beanPropertyMatcher.describeTo(description);
-                }
-            
-                @Override
-                protected boolean matchesSafely(final SimplePojoInterface item) {
-                    return beanPropertyMatcher.matches(item);
-                }
-            
-                @Override
-                protected void describeMismatchSafely(final SimplePojoInterface item, final Description description) {
-                    beanPropertyMatcher.describeMismatch(item, description);
-                }
-                
                 public static SimplePojoInterfaceMatcher isSimplePojoInterface() {
                     return new SimplePojoInterfaceMatcher();
                 }
@@ -492,21 +398,16 @@ internal class MatcherGenerationProcessorIT {
             "sample.other.pck.OutputClass", """
             package some.other.pck;
             
-            import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
-            import java.lang.Override;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.GeneratedBeanMatcher;
             import java.lang.String;
             import javax.annotation.processing.Generated;
-            import org.hamcrest.Description;
             import org.hamcrest.Matcher;
             import org.hamcrest.Matchers;
-            import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojoInterfaceMatcher extends TypeSafeMatcher<SimplePojoInterface> {
-                private final BeanPropertyMatcher<SimplePojoInterface> beanPropertyMatcher;
-            
+            public class SimplePojoInterfaceMatcher extends GeneratedBeanMatcher<SimplePojoInterface, SimplePojoInterfaceMatcher> {
                 public SimplePojoInterfaceMatcher() {
-                    beanPropertyMatcher = new BeanPropertyMatcher<SimplePojoInterface>(SimplePojoInterface.class);
+                    super(SimplePojoInterface.class);
                 }
             
                 public SimplePojoInterfaceMatcher withSomeStringProperty(final Matcher<? super String> matcher) {
@@ -519,21 +420,6 @@ internal class MatcherGenerationProcessorIT {
                     return this;
                 }
                 
-                @Override
-                public void describeTo(final Description description) {
-                    beanPropertyMatcher.describeTo(description);
-                }
-            
-                @Override
-                protected boolean matchesSafely(final SimplePojoInterface item) {
-                    return beanPropertyMatcher.matches(item);
-                }
-            
-                @Override
-                protected void describeMismatchSafely(final SimplePojoInterface item, final Description description) {
-                    beanPropertyMatcher.describeMismatch(item, description);
-                }
-                
                 public static SimplePojoInterfaceMatcher isSimplePojoInterface() {
                     return new SimplePojoInterfaceMatcher();
                 }
@@ -581,21 +467,16 @@ internal class MatcherGenerationProcessorIT {
             "sample.other.pck.OutputClass", """
             package some.other.pck;
             
-            import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
-            import java.lang.Override;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.GeneratedBeanMatcher;
             import java.lang.String;
             import javax.annotation.processing.Generated;
-            import org.hamcrest.Description;
             import org.hamcrest.Matcher;
             import org.hamcrest.Matchers;
-            import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojoInterfaceMatcher extends TypeSafeMatcher<SimplePojoInterface> {
-                private final BeanPropertyMatcher<SimplePojoInterface> beanPropertyMatcher;
-            
+            public class SimplePojoInterfaceMatcher extends GeneratedBeanMatcher<SimplePojoInterface, SimplePojoInterfaceMatcher> {
                 public SimplePojoInterfaceMatcher() {
-                    beanPropertyMatcher = new BeanPropertyMatcher<SimplePojoInterface>(SimplePojoInterface.class);
+                    super(SimplePojoInterface.class);
                 }
             
                 public SimplePojoInterfaceMatcher withSomeStringProperty(final Matcher<? super String> matcher) {
@@ -608,21 +489,6 @@ internal class MatcherGenerationProcessorIT {
                     return this;
                 }
                 
-                @Override
-                public void describeTo(final Description description) {
-                    beanPropertyMatcher.describeTo(description);
-                }
-            
-                @Override
-                protected boolean matchesSafely(final SimplePojoInterface item) {
-                    return beanPropertyMatcher.matches(item);
-                }
-            
-                @Override
-                protected void describeMismatchSafely(final SimplePojoInterface item, final Description description) {
-                    beanPropertyMatcher.describeMismatch(item, description);
-                }
-                
                 public static SimplePojoInterfaceMatcher isSimplePojoInterface() {
                     return new SimplePojoInterfaceMatcher();
                 }
@@ -681,21 +547,16 @@ internal class MatcherGenerationProcessorIT {
             "sample.other.pck.OutputClass", """
             package some.other.pck;
             
-            import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
-            import java.lang.Override;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.GeneratedBeanMatcher;
             import java.lang.String;
             import javax.annotation.processing.Generated;
-            import org.hamcrest.Description;
             import org.hamcrest.Matcher;
             import org.hamcrest.Matchers;
-            import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojoInterfaceMatcher extends TypeSafeMatcher<SimplePojoInterface> {
-                private final BeanPropertyMatcher<SimplePojoInterface> beanPropertyMatcher;
-            
+            public class SimplePojoInterfaceMatcher extends GeneratedBeanMatcher<SimplePojoInterface, SimplePojoInterfaceMatcher> {
                 public SimplePojoInterfaceMatcher() {
-                    beanPropertyMatcher = new BeanPropertyMatcher<SimplePojoInterface>(SimplePojoInterface.class);
+                    super(SimplePojoInterface.class);
                 }
             
                 public SimplePojoInterfaceMatcher withSomeStringArray(final Matcher<? super String[]> matcher) {
@@ -748,21 +609,6 @@ internal class MatcherGenerationProcessorIT {
                     return this;
                 }
             
-                @Override
-                public void describeTo(final Description description) {
-                    beanPropertyMatcher.describeTo(description);
-                }
-            
-                @Override
-                protected boolean matchesSafely(final SimplePojoInterface item) {
-                    return beanPropertyMatcher.matches(item);
-                }
-            
-                @Override
-                protected void describeMismatchSafely(final SimplePojoInterface item, final Description description) {
-                    beanPropertyMatcher.describeMismatch(item, description);
-                }
-            
                 public static SimplePojoInterfaceMatcher isSimplePojoInterface() {
                     return new SimplePojoInterfaceMatcher();
                 }
@@ -808,21 +654,16 @@ internal class MatcherGenerationProcessorIT {
             "sample.other.pck.OutputClass", """
             package some.other.pck;
             
-            import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.GeneratedBeanMatcher;
             import java.lang.Class;
-            import java.lang.Override;
             import javax.annotation.processing.Generated;
-            import org.hamcrest.Description;
             import org.hamcrest.Matcher;
             import org.hamcrest.Matchers;
-            import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SomeClassMatcher extends TypeSafeMatcher<SomeClass> {
-                private final BeanPropertyMatcher<SomeClass> beanPropertyMatcher;
-            
+            public class SomeClassMatcher extends GeneratedBeanMatcher<SomeClass, SomeClassMatcher> {
                 public SomeClassMatcher() {
-                    beanPropertyMatcher = new BeanPropertyMatcher<SomeClass>(SomeClass.class);
+                    super(SomeClass.class);
                 }
             
                 public SomeClassMatcher withClass(final Matcher<? super Class<?>> matcher) {
@@ -834,32 +675,15 @@ internal class MatcherGenerationProcessorIT {
                     beanPropertyMatcher.with("class", Matchers.equalTo(value));
                     return this;
                 }
-            
-                @Override
-                public void describeTo(final Description description) {
-                    beanPropertyMatcher.describeTo(description);
-                }
-            
-                @Override
-                protected boolean matchesSafely(final SomeClass item) {
-                    return beanPropertyMatcher.matches(item);
-                }
-            
-                @Override
-                protected void describeMismatchSafely(final SomeClass item, final Description description) {
-                    beanPropertyMatcher.describeMismatch(item, description);
-                }
                 
                 public static SomeClassMatcher isSomeClass() {
                     return new SomeClassMatcher();
                 }
             
                 @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-                public static class SomeNonStaticInnerClassMatcher extends TypeSafeMatcher<SomeClass.SomeNonStaticInnerClass> {
-                    private final BeanPropertyMatcher<SomeClass.SomeNonStaticInnerClass> beanPropertyMatcher;
-            
+                public static class SomeNonStaticInnerClassMatcher extends GeneratedBeanMatcher<SomeClass.SomeNonStaticInnerClass, SomeNonStaticInnerClassMatcher> {
                     public SomeNonStaticInnerClassMatcher() {
-                        beanPropertyMatcher = new BeanPropertyMatcher<SomeClass.SomeNonStaticInnerClass>(SomeClass.SomeNonStaticInnerClass.class);
+                        super(SomeClass.SomeNonStaticInnerClass.class);
                     }
             
                     public SomeNonStaticInnerClassMatcher withClass(final Matcher<? super Class<?>> matcher) {
@@ -872,21 +696,6 @@ internal class MatcherGenerationProcessorIT {
                         return this;
                     }
             
-                    @Override
-                    public void describeTo(final Description description) {
-                        beanPropertyMatcher.describeTo(description);
-                    }
-            
-                    @Override
-                    protected boolean matchesSafely(final SomeClass.SomeNonStaticInnerClass item) {
-                        return beanPropertyMatcher.matches(item);
-                    }
-            
-                    @Override
-                    protected void describeMismatchSafely(final SomeClass.SomeNonStaticInnerClass item, final Description description) {
-                        beanPropertyMatcher.describeMismatch(item, description);
-                    }
-            
                     public static SomeNonStaticInnerClassMatcher isSomeNonStaticInnerClass() {
                         return new SomeNonStaticInnerClassMatcher();
                     }
@@ -932,21 +741,16 @@ internal class MatcherGenerationProcessorIT {
             "sample.other.pck.SomePojoMatcher", """
             package some.other.pck;
             
-            import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.GeneratedBeanMatcher;
             import java.lang.Class;
-            import java.lang.Override;
             import javax.annotation.processing.Generated;
-            import org.hamcrest.Description;
             import org.hamcrest.Matcher;
             import org.hamcrest.Matchers;
-            import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SomePojoMatcher extends TypeSafeMatcher<SomePojo> {
-                private final BeanPropertyMatcher<SomePojo> beanPropertyMatcher;
-            
+            public class SomePojoMatcher extends GeneratedBeanMatcher<SomePojo, SomePojoMatcher> {
                 public SomePojoMatcher() {
-                    beanPropertyMatcher = new BeanPropertyMatcher<SomePojo>(SomePojo.class);
+                    super(SomePojo.class);
                 }
             
                 public SomePojoMatcher withClass(final Matcher<? super Class<?>> matcher) {
@@ -959,46 +763,14 @@ internal class MatcherGenerationProcessorIT {
                     return this;
                 }
             
-                @Override
-                public void describeTo(final Description description) {
-                    beanPropertyMatcher.describeTo(description);
-                }
-            
-                @Override
-                protected boolean matchesSafely(final SomePojo item) {
-                    return beanPropertyMatcher.matches(item);
-                }
-            
-                @Override
-                protected void describeMismatchSafely(final SomePojo item, final Description description) {
-                    beanPropertyMatcher.describeMismatch(item, description);
-                }
-            
                 public static SomePojoMatcher isSomePojo() {
                     return new SomePojoMatcher();
                 }
             
                 @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-                public static class InnerInterfaceMatcher extends TypeSafeMatcher<SomePojo.InnerInterface> {
-                    private final BeanPropertyMatcher<SomePojo.InnerInterface> beanPropertyMatcher;
-            
+                public static class InnerInterfaceMatcher extends GeneratedBeanMatcher<SomePojo.InnerInterface, InnerInterfaceMatcher> {
                     public InnerInterfaceMatcher() {
-                        beanPropertyMatcher = new BeanPropertyMatcher<SomePojo.InnerInterface>(SomePojo.InnerInterface.class);
-                    }
-            
-                    @Override
-                    public void describeTo(final Description description) {
-                        beanPropertyMatcher.describeTo(description);
-                    }
-            
-                    @Override
-                    protected boolean matchesSafely(final SomePojo.InnerInterface item) {
-                        return beanPropertyMatcher.matches(item);
-                    }
-            
-                    @Override
-                    protected void describeMismatchSafely(final SomePojo.InnerInterface item, final Description description) {
-                        beanPropertyMatcher.describeMismatch(item, description);
+                        super(SomePojo.InnerInterface.class);
                     }
             
                     public static InnerInterfaceMatcher isInnerInterface() {
@@ -1048,22 +820,17 @@ internal class MatcherGenerationProcessorIT {
             "sample.other.pck.OutputClass", """
             package some.other.pck;
             
-            import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.GeneratedBeanMatcher;
             import java.lang.Class;
-            import java.lang.Override;
             import java.lang.String;
             import javax.annotation.processing.Generated;
-            import org.hamcrest.Description;
             import org.hamcrest.Matcher;
             import org.hamcrest.Matchers;
-            import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojoEnumMatcher extends TypeSafeMatcher<SimplePojoEnum> {
-                private final BeanPropertyMatcher<SimplePojoEnum> beanPropertyMatcher;
-            
+            public class SimplePojoEnumMatcher extends GeneratedBeanMatcher<SimplePojoEnum, SimplePojoEnumMatcher> {
                 public SimplePojoEnumMatcher() {
-                    beanPropertyMatcher = new BeanPropertyMatcher<SimplePojoEnum>(SimplePojoEnum.class);
+                    super(SimplePojoEnum.class);
                 }
             
                 public SimplePojoEnumMatcher withSomeStringProperty(final Matcher<? super String> matcher) {
@@ -1095,21 +862,6 @@ internal class MatcherGenerationProcessorIT {
                     beanPropertyMatcher.with("class", Matchers.equalTo(value));
                     return this;
                 }
-            
-                @Override
-                public void describeTo(final Description description) {
-                    beanPropertyMatcher.describeTo(description);
-                }
-            
-                @Override
-                protected boolean matchesSafely(final SimplePojoEnum item) {
-                    return beanPropertyMatcher.matches(item);
-                }
-            
-                @Override
-                protected void describeMismatchSafely(final SimplePojoEnum item, final Description description) {
-                    beanPropertyMatcher.describeMismatch(item, description);
-                }
                 
                 public static SimplePojoEnumMatcher isSimplePojoEnum() {
                     return new SimplePojoEnumMatcher();
@@ -1170,23 +922,18 @@ internal class MatcherGenerationProcessorIT {
             "sample.other.pck.OutputClass", """
             package some.other.pck;
             
-            import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.GeneratedBeanMatcher;
             import java.lang.Class;
             import java.lang.Object;
-            import java.lang.Override;
             import java.lang.String;
             import javax.annotation.processing.Generated;
-            import org.hamcrest.Description;
             import org.hamcrest.Matcher;
             import org.hamcrest.Matchers;
-            import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojoMatcher extends TypeSafeMatcher<SimplePojo> {
-                private final BeanPropertyMatcher<SimplePojo> beanPropertyMatcher;
-            
+            public class SimplePojoMatcher extends GeneratedBeanMatcher<SimplePojo, SimplePojoMatcher> {
                 public SimplePojoMatcher() {
-                    beanPropertyMatcher = new BeanPropertyMatcher<SimplePojo>(SimplePojo.class);
+                    super(SimplePojo.class);
                 }
             
                 public SimplePojoMatcher withPropertyOfBothClasses(final Matcher<? super String> matcher) {
@@ -1219,21 +966,6 @@ internal class MatcherGenerationProcessorIT {
                     return this;
                 }
                 
-                @Override
-                public void describeTo(final Description description) {
-                    beanPropertyMatcher.describeTo(description);
-                }
-            
-                @Override
-                protected boolean matchesSafely(final SimplePojo item) {
-                    return beanPropertyMatcher.matches(item);
-                }
-            
-                @Override
-                protected void describeMismatchSafely(final SimplePojo item, final Description description) {
-                    beanPropertyMatcher.describeMismatch(item, description);
-                }
-                
                 public static SimplePojoMatcher isSimplePojo() {
                     return new SimplePojoMatcher();
                 }
@@ -1293,21 +1025,16 @@ internal class MatcherGenerationProcessorIT {
             "sample.other.pck.OutputClass", """
             package some.other.pck;
             
-            import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.GeneratedBeanMatcher;
             import java.lang.Class;
-            import java.lang.Override;
             import javax.annotation.processing.Generated;
-            import org.hamcrest.Description;
             import org.hamcrest.Matcher;
             import org.hamcrest.Matchers;
-            import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojoMatcher extends TypeSafeMatcher<SimplePojo> {
-                private final BeanPropertyMatcher<SimplePojo> beanPropertyMatcher;
-            
+            public class SimplePojoMatcher extends GeneratedBeanMatcher<SimplePojo, SimplePojoMatcher> {
                 public SimplePojoMatcher() {
-                    beanPropertyMatcher = new BeanPropertyMatcher<SimplePojo>(SimplePojo.class);
+                    super(SimplePojo.class);
                 }
             
                 public SimplePojoMatcher withClass(final Matcher<? super Class<?>> matcher) {
@@ -1320,21 +1047,6 @@ internal class MatcherGenerationProcessorIT {
                     return this;
                 }
             
-                @Override
-                public void describeTo(final Description description) {
-                    beanPropertyMatcher.describeTo(description);
-                }
-            
-                @Override
-                protected boolean matchesSafely(final SimplePojo item) {
-                    return beanPropertyMatcher.matches(item);
-                }
-            
-                @Override
-                protected void describeMismatchSafely(final SimplePojo item, final Description description) {
-                    beanPropertyMatcher.describeMismatch(item, description);
-                }
-            
                 public static SimplePojoMatcher isSimplePojo() {
                     return new SimplePojoMatcher();
                 }
@@ -1379,21 +1091,16 @@ internal class MatcherGenerationProcessorIT {
             "org.mockito.ArgumentMatchersMatcher", """
             package org.mockito;
             
-            import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.GeneratedBeanMatcher;
             import java.lang.Class;
-            import java.lang.Override;
             import javax.annotation.processing.Generated;
-            import org.hamcrest.Description;
             import org.hamcrest.Matcher;
             import org.hamcrest.Matchers;
-            import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class ArgumentMatchersMatcher extends TypeSafeMatcher<ArgumentMatchers> {
-                private final BeanPropertyMatcher<ArgumentMatchers> beanPropertyMatcher;
-            
+            public class ArgumentMatchersMatcher extends GeneratedBeanMatcher<ArgumentMatchers, ArgumentMatchersMatcher> {
                 public ArgumentMatchersMatcher() {
-                    beanPropertyMatcher = new BeanPropertyMatcher<ArgumentMatchers>(ArgumentMatchers.class);
+                    super(ArgumentMatchers.class);
                 }
             
                 public ArgumentMatchersMatcher withClass(final Matcher<? super Class<?>> matcher) {
@@ -1406,21 +1113,6 @@ internal class MatcherGenerationProcessorIT {
                     return this;
                 }
             
-                @Override
-                public void describeTo(final Description description) {
-                    beanPropertyMatcher.describeTo(description);
-                }
-            
-                @Override
-                protected boolean matchesSafely(final ArgumentMatchers item) {
-                    return beanPropertyMatcher.matches(item);
-                }
-            
-                @Override
-                protected void describeMismatchSafely(final ArgumentMatchers item, final Description description) {
-                    beanPropertyMatcher.describeMismatch(item, description);
-                }
-            
                 public static ArgumentMatchersMatcher isArgumentMatchers() {
                     return new ArgumentMatchersMatcher();
                 }
@@ -1472,21 +1164,16 @@ internal class MatcherGenerationProcessorIT {
             "sample.other.pck.SimplePojo11Matcher", """
             package some.other.pck;
             
-            import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.GeneratedBeanMatcher;
             import java.lang.Class;
-            import java.lang.Override;
             import javax.annotation.processing.Generated;
-            import org.hamcrest.Description;
             import org.hamcrest.Matcher;
             import org.hamcrest.Matchers;
-            import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojo1Matcher extends TypeSafeMatcher<SimplePojo1> {
-                private final BeanPropertyMatcher<SimplePojo1> beanPropertyMatcher;
-            
+            public class SimplePojo1Matcher extends GeneratedBeanMatcher<SimplePojo1, SimplePojo1Matcher> {
                 public SimplePojo1Matcher() {
-                    beanPropertyMatcher = new BeanPropertyMatcher<SimplePojo1>(SimplePojo1.class);
+                    super(SimplePojo1.class);
                 }
             
                 public SimplePojo1Matcher withClass(final Matcher<? super Class<?>> matcher) {
@@ -1499,21 +1186,6 @@ internal class MatcherGenerationProcessorIT {
                     return this;
                 }
             
-                @Override
-                public void describeTo(final Description description) {
-                    beanPropertyMatcher.describeTo(description);
-                }
-            
-                @Override
-                protected boolean matchesSafely(final SimplePojo1 item) {
-                    return beanPropertyMatcher.matches(item);
-                }
-            
-                @Override
-                protected void describeMismatchSafely(final SimplePojo1 item, final Description description) {
-                    beanPropertyMatcher.describeMismatch(item, description);
-                }
-            
                 public static SimplePojo1Matcher isSimplePojo1() {
                     return new SimplePojo1Matcher();
                 }
@@ -1523,21 +1195,16 @@ internal class MatcherGenerationProcessorIT {
             "sample.other.pck.SimplePojo22Matcher", """
             package some.other.pck;
             
-            import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.GeneratedBeanMatcher;
             import java.lang.Class;
-            import java.lang.Override;
             import javax.annotation.processing.Generated;
-            import org.hamcrest.Description;
             import org.hamcrest.Matcher;
             import org.hamcrest.Matchers;
-            import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojo2Matcher extends TypeSafeMatcher<SimplePojo2> {
-                private final BeanPropertyMatcher<SimplePojo2> beanPropertyMatcher;
-            
+            public class SimplePojo2Matcher extends GeneratedBeanMatcher<SimplePojo2, SimplePojo2Matcher> {
                 public SimplePojo2Matcher() {
-                    beanPropertyMatcher = new BeanPropertyMatcher<SimplePojo2>(SimplePojo2.class);
+                    super(SimplePojo2.class);
                 }
             
                 public SimplePojo2Matcher withClass(final Matcher<? super Class<?>> matcher) {
@@ -1550,21 +1217,6 @@ internal class MatcherGenerationProcessorIT {
                     return this;
                 }
             
-                @Override
-                public void describeTo(final Description description) {
-                    beanPropertyMatcher.describeTo(description);
-                }
-            
-                @Override
-                protected boolean matchesSafely(final SimplePojo2 item) {
-                    return beanPropertyMatcher.matches(item);
-                }
-            
-                @Override
-                protected void describeMismatchSafely(final SimplePojo2 item, final Description description) {
-                    beanPropertyMatcher.describeMismatch(item, description);
-                }
-            
                 public static SimplePojo2Matcher isSimplePojo2() {
                     return new SimplePojo2Matcher();
                 }
@@ -1644,21 +1296,16 @@ internal class MatcherGenerationProcessorIT {
             "sample.other.pck.SimplePojoMatcher", """
             package some.other.pck;
             
-            import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.GeneratedBeanMatcher;
             import java.lang.Class;
-            import java.lang.Override;
             import javax.annotation.processing.Generated;
-            import org.hamcrest.Description;
             import org.hamcrest.Matcher;
             import org.hamcrest.Matchers;
-            import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojoMatcher extends TypeSafeMatcher<SimplePojo> {
-                private final BeanPropertyMatcher<SimplePojo> beanPropertyMatcher;
-            
+            public class SimplePojoMatcher extends GeneratedBeanMatcher<SimplePojo, SimplePojoMatcher> {
                 public SimplePojoMatcher() {
-                    beanPropertyMatcher = new BeanPropertyMatcher<SimplePojo>(SimplePojo.class);
+                    super(SimplePojo.class);
                 }
             
                 public SimplePojoMatcher withClass(final Matcher<? super Class<?>> matcher) {
@@ -1671,21 +1318,6 @@ internal class MatcherGenerationProcessorIT {
                     return this;
                 }
             
-                @Override
-                public void describeTo(final Description description) {
-                    beanPropertyMatcher.describeTo(description);
-                }
-            
-                @Override
-                protected boolean matchesSafely(final SimplePojo item) {
-                    return beanPropertyMatcher.matches(item);
-                }
-            
-                @Override
-                protected void describeMismatchSafely(final SimplePojo item, final Description description) {
-                    beanPropertyMatcher.describeMismatch(item, description);
-                }
-            
                 public static SimplePojoMatcher isSimplePojo() {
                     return new SimplePojoMatcher();
                 }
@@ -1734,21 +1366,16 @@ internal class MatcherGenerationProcessorIT {
             "sample.other.pck.SimplePojoMatcher", """
             package some.other.pck;
             
-            import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.GeneratedBeanMatcher;
             import java.lang.Class;
-            import java.lang.Override;
             import javax.annotation.processing.Generated;
-            import org.hamcrest.Description;
             import org.hamcrest.Matcher;
             import org.hamcrest.Matchers;
-            import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojoMatcher extends TypeSafeMatcher<SimplePojo> {
-                private final BeanPropertyMatcher<SimplePojo> beanPropertyMatcher;
-            
+            public class SimplePojoMatcher extends GeneratedBeanMatcher<SimplePojo, SimplePojoMatcher> {
                 public SimplePojoMatcher() {
-                    beanPropertyMatcher = new BeanPropertyMatcher<SimplePojo>(SimplePojo.class);
+                    super(SimplePojo.class);
                 }
             
                 public SimplePojoMatcher withSomeProperty(final Matcher<? super SimplePojo.InnerType.InnerEnum> matcher) {
@@ -1761,47 +1388,14 @@ internal class MatcherGenerationProcessorIT {
                     return this;
                 }
             
-                @Override
-                public void describeTo(final Description description) {
-                    beanPropertyMatcher.describeTo(description);
-                }
-            
-                @Override
-                protected boolean matchesSafely(final SimplePojo item) {
-                    return beanPropertyMatcher.matches(item);
-                }
-            
-                @Override
-                protected void describeMismatchSafely(final SimplePojo item, final Description description) {
-                    beanPropertyMatcher.describeMismatch(item, description);
-                }
-            
                 public static SimplePojoMatcher isSimplePojo() {
                     return new SimplePojoMatcher();
                 }
             
                 @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-                public static class InnerTypeMatcher extends TypeSafeMatcher<SimplePojo.InnerType> {
-                    private final BeanPropertyMatcher<SimplePojo.InnerType> beanPropertyMatcher;
-            
+                public static class InnerTypeMatcher extends GeneratedBeanMatcher<SimplePojo.InnerType, InnerTypeMatcher> {
                     public InnerTypeMatcher() {
-                        beanPropertyMatcher = new BeanPropertyMatcher<SimplePojo.InnerType>(SimplePojo.InnerType.class);
-                    }
-            
-                    @Override
-                    public void describeTo(final Description description) {
-                        beanPropertyMatcher.describeTo(description);
-                    }
-            
-                    @Override
-                    protected boolean matchesSafely(final SimplePojo.InnerType item) {
-                        return beanPropertyMatcher.matches(item);
-                    }
-            
-                    @Override
-                    protected void describeMismatchSafely(final SimplePojo.InnerType item,
-                                                          final Description description) {
-                        beanPropertyMatcher.describeMismatch(item, description);
+                        super(SimplePojo.InnerType.class);
                     }
             
                     public static InnerTypeMatcher isInnerType() {
@@ -1809,11 +1403,9 @@ internal class MatcherGenerationProcessorIT {
                     }
             
                     @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-                    public static class InnerEnumMatcher extends TypeSafeMatcher<SimplePojo.InnerType.InnerEnum> {
-                        private final BeanPropertyMatcher<SimplePojo.InnerType.InnerEnum> beanPropertyMatcher;
-            
+                    public static class InnerEnumMatcher extends GeneratedBeanMatcher<SimplePojo.InnerType.InnerEnum, InnerEnumMatcher> {
                         public InnerEnumMatcher() {
-                            beanPropertyMatcher = new BeanPropertyMatcher<SimplePojo.InnerType.InnerEnum>(SimplePojo.InnerType.InnerEnum.class);
+                            super(SimplePojo.InnerType.InnerEnum.class);
                         }
             
                         public InnerEnumMatcher withDeclaringClass(final Matcher<? super Class<?>> matcher) {
@@ -1836,22 +1428,6 @@ internal class MatcherGenerationProcessorIT {
                             return this;
                         }
             
-                        @Override
-                        public void describeTo(final Description description) {
-                            beanPropertyMatcher.describeTo(description);
-                        }
-            
-                        @Override
-                        protected boolean matchesSafely(final SimplePojo.InnerType.InnerEnum item) {
-                            return beanPropertyMatcher.matches(item);
-                        }
-            
-                        @Override
-                        protected void describeMismatchSafely(final SimplePojo.InnerType.InnerEnum item,
-                                                              final Description description) {
-                            beanPropertyMatcher.describeMismatch(item, description);
-                        }
-            
                         public static InnerEnumMatcher isInnerEnum() {
                             return new InnerEnumMatcher();
                         }
@@ -1899,33 +1475,13 @@ internal class MatcherGenerationProcessorIT {
             "sample.other.pck.SimplePojoMatcher", """
             package some.other.pck;
             
-            import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
-            import java.lang.Override;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.GeneratedBeanMatcher;
             import javax.annotation.processing.Generated;
-            import org.hamcrest.Description;
-            import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojoMatcher extends TypeSafeMatcher<SimplePojo> {
-                private final BeanPropertyMatcher<SimplePojo> beanPropertyMatcher;
-            
+            public class SimplePojoMatcher extends GeneratedBeanMatcher<SimplePojo, SimplePojoMatcher> {
                 public SimplePojoMatcher() {
-                    beanPropertyMatcher = new BeanPropertyMatcher<SimplePojo>(SimplePojo.class);
-                }
-            
-                @Override
-                public void describeTo(final Description description) {
-                    beanPropertyMatcher.describeTo(description);
-                }
-            
-                @Override
-                protected boolean matchesSafely(final SimplePojo item) {
-                    return beanPropertyMatcher.matches(item);
-                }
-            
-                @Override
-                protected void describeMismatchSafely(final SimplePojo item, final Description description) {
-                    beanPropertyMatcher.describeMismatch(item, description);
+                    super(SimplePojo.class);
                 }
             
                 public static SimplePojoMatcher isSimplePojo() {
@@ -1933,27 +1489,9 @@ internal class MatcherGenerationProcessorIT {
                 }
             
                 @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-                public static class InnerTypeMatcher extends TypeSafeMatcher<SimplePojo.InnerType> {
-                    private final BeanPropertyMatcher<SimplePojo.InnerType> beanPropertyMatcher;
-            
+                public static class InnerTypeMatcher extends GeneratedBeanMatcher<SimplePojo.InnerType, InnerTypeMatcher> {
                     public InnerTypeMatcher() {
-                        beanPropertyMatcher = new BeanPropertyMatcher<SimplePojo.InnerType>(SimplePojo.InnerType.class);
-                    }
-            
-                    @Override
-                    public void describeTo(final Description description) {
-                        beanPropertyMatcher.describeTo(description);
-                    }
-            
-                    @Override
-                    protected boolean matchesSafely(final SimplePojo.InnerType item) {
-                        return beanPropertyMatcher.matches(item);
-                    }
-            
-                    @Override
-                    protected void describeMismatchSafely(final SimplePojo.InnerType item,
-                                                          final Description description) {
-                        beanPropertyMatcher.describeMismatch(item, description);
+                        super(SimplePojo.InnerType.class);
                     }
             
                     public static InnerTypeMatcher isInnerType() {
@@ -1961,27 +1499,9 @@ internal class MatcherGenerationProcessorIT {
                     }
             
                     @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-                    public static class InnerInnerTypeMatcher extends TypeSafeMatcher<SimplePojo.InnerType.InnerInnerType> {
-                        private final BeanPropertyMatcher<SimplePojo.InnerType.InnerInnerType> beanPropertyMatcher;
-            
+                    public static class InnerInnerTypeMatcher extends GeneratedBeanMatcher<SimplePojo.InnerType.InnerInnerType, InnerInnerTypeMatcher> {
                         public InnerInnerTypeMatcher() {
-                            beanPropertyMatcher = new BeanPropertyMatcher<SimplePojo.InnerType.InnerInnerType>(SimplePojo.InnerType.InnerInnerType.class);
-                        }
-            
-                        @Override
-                        public void describeTo(final Description description) {
-                            beanPropertyMatcher.describeTo(description);
-                        }
-            
-                        @Override
-                        protected boolean matchesSafely(final SimplePojo.InnerType.InnerInnerType item) {
-                            return beanPropertyMatcher.matches(item);
-                        }
-            
-                        @Override
-                        protected void describeMismatchSafely(final SimplePojo.InnerType.InnerInnerType item,
-                                                              final Description description) {
-                            beanPropertyMatcher.describeMismatch(item, description);
+                            super(SimplePojo.InnerType.InnerInnerType.class);
                         }
             
                         public static InnerInnerTypeMatcher isInnerInnerType() {
@@ -2030,21 +1550,16 @@ internal class MatcherGenerationProcessorIT {
             "sample.other.pck.SimplePojoMatcher", """
             package some.other.pck;
             
-            import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
-            import java.lang.Override;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.GeneratedBeanMatcher;
             import java.lang.String;
             import javax.annotation.processing.Generated;
-            import org.hamcrest.Description;
             import org.hamcrest.Matcher;
             import org.hamcrest.Matchers;
-            import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojoMatcher extends TypeSafeMatcher<SimplePojo> {
-                private final BeanPropertyMatcher<SimplePojo> beanPropertyMatcher;
-            
+            public class SimplePojoMatcher extends GeneratedBeanMatcher<SimplePojo, SimplePojoMatcher> {
                 public SimplePojoMatcher() {
-                    beanPropertyMatcher = new BeanPropertyMatcher<SimplePojo>(SimplePojo.class);
+                    super(SimplePojo.class);
                 }
             
                 public SimplePojoMatcher withProperty(final Matcher<? extends String> value) {
@@ -2052,21 +1567,6 @@ internal class MatcherGenerationProcessorIT {
                     return this;
                 }
             
-                @Override
-                public void describeTo(final Description description) {
-                    beanPropertyMatcher.describeTo(description);
-                }
-            
-                @Override
-                protected boolean matchesSafely(final SimplePojo item) {
-                    return beanPropertyMatcher.matches(item);
-                }
-            
-                @Override
-                protected void describeMismatchSafely(final SimplePojo item, final Description description) {
-                    beanPropertyMatcher.describeMismatch(item, description);
-                }
-            
                 public static SimplePojoMatcher isSimplePojo() {
                     return new SimplePojoMatcher();
                 }
@@ -2117,26 +1617,21 @@ internal class MatcherGenerationProcessorIT {
             "sample.other.pck.SimplePojoMatcher", """
             package some.other.pck;
             
-            import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.GeneratedBeanMatcher;
             import java.lang.Object;
-            import java.lang.Override;
             import java.util.List;
             import java.util.Map;
             import java.util.function.Consumer;
             import java.util.function.Function;
             import java.util.function.Supplier;
             import javax.annotation.processing.Generated;
-            import org.hamcrest.Description;
             import org.hamcrest.Matcher;
             import org.hamcrest.Matchers;
-            import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojoMatcher extends TypeSafeMatcher<SimplePojo<?, ?>> {
-                private final BeanPropertyMatcher<SimplePojo<?, ?>> beanPropertyMatcher;
-            
+            public class SimplePojoMatcher extends GeneratedBeanMatcher<SimplePojo<?, ?>, SimplePojoMatcher> {
                 public SimplePojoMatcher() {
-                    beanPropertyMatcher = new BeanPropertyMatcher<SimplePojo<?, ?>>(SimplePojo.class);
+                    super(SimplePojo.class);
                 }
             
                 public SimplePojoMatcher withProperty(final Matcher<? super Object> matcher) {
@@ -2169,21 +1664,6 @@ internal class MatcherGenerationProcessorIT {
                     return this;
                 }
             
-                @Override
-                public void describeTo(final Description description) {
-                    beanPropertyMatcher.describeTo(description);
-                }
-            
-                @Override
-                protected boolean matchesSafely(final SimplePojo<?, ?> item) {
-                    return beanPropertyMatcher.matches(item);
-                }
-            
-                @Override
-                protected void describeMismatchSafely(final SimplePojo<?, ?> item, final Description description) {
-                    beanPropertyMatcher.describeMismatch(item, description);
-                }
-            
                 public static SimplePojoMatcher isSimplePojo() {
                     return new SimplePojoMatcher();
                 }
@@ -2249,7 +1729,7 @@ internal class MatcherGenerationProcessorIT {
             "sample.other.pck.SimplePojoMatcher", """
             package some.other.pck;
             
-            import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.GeneratedBeanMatcher;
             import java.lang.Boolean;
             import java.lang.Byte;
             import java.lang.Character;
@@ -2258,20 +1738,15 @@ internal class MatcherGenerationProcessorIT {
             import java.lang.Float;
             import java.lang.Integer;
             import java.lang.Long;
-            import java.lang.Override;
             import java.lang.Short;
             import javax.annotation.processing.Generated;
-            import org.hamcrest.Description;
             import org.hamcrest.Matcher;
             import org.hamcrest.Matchers;
-            import org.hamcrest.TypeSafeMatcher;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SimplePojoMatcher extends TypeSafeMatcher<SimplePojo> {
-                private final BeanPropertyMatcher<SimplePojo> beanPropertyMatcher;
-            
+            public class SimplePojoMatcher extends GeneratedBeanMatcher<SimplePojo, SimplePojoMatcher> {
                 public SimplePojoMatcher() {
-                    beanPropertyMatcher = new BeanPropertyMatcher<SimplePojo>(SimplePojo.class);
+                    super(SimplePojo.class);
                 }
             
                 public SimplePojoMatcher withIntProperty(final Matcher<? super Integer> matcher) {
@@ -2364,21 +1839,6 @@ internal class MatcherGenerationProcessorIT {
                     return this;
                 }
             
-                @Override
-                public void describeTo(final Description description) {
-                    beanPropertyMatcher.describeTo(description);
-                }
-            
-                @Override
-                protected boolean matchesSafely(final SimplePojo item) {
-                    return beanPropertyMatcher.matches(item);
-                }
-            
-                @Override
-                protected void describeMismatchSafely(final SimplePojo item, final Description description) {
-                    beanPropertyMatcher.describeMismatch(item, description);
-                }
-            
                 public static SimplePojoMatcher isSimplePojo() {
                     return new SimplePojoMatcher();
                 }
@@ -2468,66 +1928,199 @@ internal class MatcherGenerationProcessorIT {
             "my.base.pck.sample.other.pck.SomePojoMatcher", """
             package my.base.pck.some.other.pck;
             
-            import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
-            import java.lang.Override;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.GeneratedBeanMatcher;
             import javax.annotation.processing.Generated;
-            import org.hamcrest.Description;
-            import org.hamcrest.TypeSafeMatcher;
             import some.other.pck.SomePojo;
             
             @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-            public class SomePojoMatcher extends TypeSafeMatcher<SomePojo> {
-                private final BeanPropertyMatcher<SomePojo> beanPropertyMatcher;
-            
+            public class SomePojoMatcher extends GeneratedBeanMatcher<SomePojo, SomePojoMatcher> {
                 public SomePojoMatcher() {
-                    beanPropertyMatcher = new BeanPropertyMatcher<SomePojo>(SomePojo.class);
+                    super(SomePojo.class);
                 }
             
             
-                @Override
-                public void describeTo(final Description description) {
-                    beanPropertyMatcher.describeTo(description);
+                public static SomePojoMatcher isSomePojo() {
+                    return new SomePojoMatcher();
                 }
             
-                @Override
-                protected boolean matchesSafely(final SomePojo item) {
-                    return beanPropertyMatcher.matches(item);
+                @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
+                public static class InnerInterfaceMatcher extends GeneratedBeanMatcher<SomePojo.InnerInterface, InnerInterfaceMatcher> {
+                    public InnerInterfaceMatcher() {
+                        super(SomePojo.InnerInterface.class);
+                    }
+            
+                    public static InnerInterfaceMatcher isInnerInterface() {
+                        return new InnerInterfaceMatcher();
+                    }
                 }
+            }""".trimIndent()
+        )
+
+        // Execution
+        Truth.assert_()
+            .about(JavaSourcesSubjectFactory.javaSources())
+            .that(Arrays.asList(configuration, javaFileObject))
+            .processedWith(MatcherGenerationProcessor { now }) // Assertion
+            .compilesWithoutError()
+            .and()
+            .generatesSources(expectedOutput)
+    }
+
+    @Test
+    fun `Properties should be read by getters if configured`() {
+        // Preparation
+        @Language("JAVA") val configuration = JavaFileObjects.forSourceLines(
+            "some.pck.SomeConfiguration", """
+            package some.pck;
+            
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.PropertyAccess;
+            
+            @MatcherConfiguration(value = "some.other.pck.SimplePojo", generation = @GenerationConfiguration(propertyAccess = PropertyAccess.GETTER))
+            public final class SomeConfiguration{
+                
+            }""".trimIndent()
+        )
+        @Language("JAVA") val parentPojo = JavaFileObjects.forSourceLines(
+            "some.other.pck.ParentPojo", """
+            package some.other.pck;
             
-                @Override
-                protected void describeMismatchSafely(final SomePojo item, final Description description) {
-                    beanPropertyMatcher.describeMismatch(item, description);
+            public class ParentPojo<T>{
+                public T getParentPojoProperty(){
+                    return null;
                 }
+            }""".trimIndent()
+        )
+        @Language("JAVA") val javaFileObject = JavaFileObjects.forSourceLines(
+            "some.other.pck.SimplePojo", """
+            package some.other.pck;
             
-                public static SomePojoMatcher isSomePojo() {
-                    return new SomePojoMatcher();
+            public class SimplePojo<T> extends ParentPojo<String>{
+                public int getIntProperty(){
+                    return 42;
+                }
+                
+                public T getGenericProperty(){
+                    return null;
+                }
+                
+                public static class InnerPojo{
+                    public boolean isInnerProperty(){
+                        return true;
+                    }
+                }
+            }""".trimIndent()
+        )
+        val now = LocalDateTime.now()
+        @Language("JAVA") val expectedOutput = JavaFileObjects.forSourceString(
+            "some.other.pck.SimplePojoMatcher", """
+            package some.other.pck;
+            
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanProperty;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.GeneratedBeanMatcher;
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.PropertyTable;
+            import java.lang.Boolean;
+            import java.lang.Class;
+            import java.lang.Integer;
+            import java.lang.Object;
+            import javax.annotation.processing.Generated;
+            import org.hamcrest.Matcher;
+            import org.hamcrest.Matchers;
+            
+            @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
+            public class SimplePojoMatcher extends GeneratedBeanMatcher<SimplePojo<?>, SimplePojoMatcher> {
+                private static final PropertyTable<SimplePojo<?>> PROPERTIES = PropertyTable.of(SimplePojo.class,
+                        BeanProperty.ofInt("intProperty", SimplePojo::getIntProperty),
+                        BeanProperty.of("genericProperty", SimplePojo::getGenericProperty, Object.class),
+                        BeanProperty.of("parentPojoProperty", SimplePojo::getParentPojoProperty, Object.class),
+                        BeanProperty.of("class", SimplePojo::getClass, Class.class));
+
+                public SimplePojoMatcher() {
+                    super(PROPERTIES);
+                }
+            
+                public SimplePojoMatcher withIntProperty(final Matcher<? super Integer> matcher) {
+                    beanPropertyMatcher.with(0, matcher);
+                    return this;
+                }
+            
+                public SimplePojoMatcher withGenericProperty(final Matcher<? super Object> matcher) {
+                    beanPropertyMatcher.with(1, matcher);
+                    return this;
+                }
+            
+                public SimplePojoMatcher withParentPojoProperty(final Matcher<? super Object> matcher) {
+                    beanPropertyMatcher.with(2, matcher);
+                    return this;
+                }
+            
+                public SimplePojoMatcher withClass(final Matcher<? super Class<?>> matcher) {
+                    beanPropertyMatcher.with(3, matcher);
+                    return this;
+                }
+            
+                public SimplePojoMatcher withIntProperty(final int value) {
+                    beanPropertyMatcher.withInt(0, value);
+                    return this;
+                }
+            
+                public SimplePojoMatcher withGenericProperty(final Object value) {
+                    beanPropertyMatcher.with(1, Matchers.equalTo(value));
+                    return this;
+                }
+            
+                public SimplePojoMatcher withParentPojoProperty(final Object value) {
+                    beanPropertyMatcher.with(2, Matchers.equalTo(value));
+                    return this;
+                }
+            
+                public SimplePojoMatcher withClass(final Class<?> value) {
+                    beanPropertyMatcher.with(3, Matchers.equalTo(value));
+                    return this;
+                }
+
+                public SimplePojoMatcher withIntPropertyBetween(final int min, final int max) {
+                    beanPropertyMatcher.withIntBetween(0, min, max);
+                    return this;
+                }
+            
+                public static SimplePojoMatcher isSimplePojo() {
+                    return new SimplePojoMatcher();
                 }
             
                 @Generated(value = "${MatcherGenerationProcessor::class.qualifiedName}", date = "$now")
-                public static class InnerInterfaceMatcher extends TypeSafeMatcher<SomePojo.InnerInterface> {
-                    private final BeanPropertyMatcher<SomePojo.InnerInterface> beanPropertyMatcher;
+                public static class InnerPojoMatcher extends GeneratedBeanMatcher<SimplePojo.InnerPojo, InnerPojoMatcher> {
+                    private static final PropertyTable<SimplePojo.InnerPojo> PROPERTIES = PropertyTable.of(SimplePojo.InnerPojo.class,
+                            BeanProperty.ofBoolean("innerProperty", SimplePojo.InnerPojo::isInnerProperty),
+                            BeanProperty.of("class", SimplePojo.InnerPojo::getClass, Class.class));
+
+                    public InnerPojoMatcher() {
+                        super(PROPERTIES);
+                    }
             
-                    public InnerInterfaceMatcher() {
-                        beanPropertyMatcher = new BeanPropertyMatcher<SomePojo.InnerInterface>(SomePojo.InnerInterface.class);
+                    public InnerPojoMatcher withInnerProperty(final Matcher<? super Boolean> matcher) {
+                        beanPropertyMatcher.with(0, matcher);
+                        return this;
                     }
             
-                    @Override
-                    public void describeTo(final Description description) {
-                        beanPropertyMatcher.describeTo(description);
+                    public InnerPojoMatcher withClass(final Matcher<? super Class<?>> matcher) {
+                        beanPropertyMatcher.with(1, matcher);
+                        return this;
                     }
             
-                    @Override
-                    protected boolean matchesSafely(final SomePojo.InnerInterface item) {
-                        return beanPropertyMatcher.matches(item);
+                    public InnerPojoMatcher withInnerProperty(final boolean value) {
+                        beanPropertyMatcher.withBoolean(0, value);
+                        return this;
                     }
             
-                    @Override
-                    protected void describeMismatchSafely(final SomePojo.InnerInterface item, final Description description) {
-                        beanPropertyMatcher.describeMismatch(item, description);
+                    public InnerPojoMatcher withClass(final Class<?> value) {
+                        beanPropertyMatcher.with(1, Matchers.equalTo(value));
+                        return this;
                     }
             
-                    public static InnerInterfaceMatcher isInnerInterface() {
-                        return new InnerInterfaceMatcher();
+                    public static InnerPojoMatcher isInnerPojo() {
+                        return new InnerPojoMatcher();
                     }
                 }
             }""".trimIndent()
@@ -2536,7 +2129,7 @@ internal class MatcherGenerationProcessorIT {
         // Execution
         Truth.assert_()
             .about(JavaSourcesSubjectFactory.javaSources())
-            .that(Arrays.asList(configuration, javaFileObject))
+            .that(Arrays.asList(configuration, javaFileObject, parentPojo))
             .processedWith(MatcherGenerationProcessor { now }) // Assertion
             .compilesWithoutError()
             .and()
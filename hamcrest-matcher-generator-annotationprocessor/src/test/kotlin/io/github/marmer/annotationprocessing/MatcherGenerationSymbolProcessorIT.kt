@@ -0,0 +1,169 @@
+package io.github.marmer.annotationprocessing
+
+import com.tschuchort.compiletesting.KotlinCompilation
+import com.tschuchort.compiletesting.SourceFile
+import com.tschuchort.compiletesting.kspArgs
+import com.tschuchort.compiletesting.kspSourcesDir
+import com.tschuchort.compiletesting.symbolProcessorProviders
+import org.intellij.lang.annotations.Language
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.stream.Collectors
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+internal class MatcherGenerationSymbolProcessorIT {
+    @TempDir
+    lateinit var tempDir: Path
+
+    @Language("kotlin")
+    private val model = SourceFile.kotlin(
+        "Model.kt", """
+            package some.pck
+
+            interface Named {
+                val name: String
+            }
+
+            open class BaseEntity<ID>(val id: ID?)
+
+            data class ComplexPojo<T : Comparable<T>>(
+                override val name: String,
+                val count: Int,
+                val ratio: Double?,
+                val isEnabled: Boolean,
+                val active: Boolean,
+                val values: List<T>,
+                val groups: MutableMap<String, Set<Int>>,
+                val matrix: Array<IntArray>,
+                val comparator: Comparator<in String>?
+            ) : BaseEntity<Long>(null), Named {
+                private val hidden: String = "hidden"
+
+                @JvmField
+                val field: String = "field"
+
+                fun getComputed(): String = "computed"
+
+                class Inner(val innerValue: Int)
+
+                private class PrivateInner(val innerValue: Int)
+            }""".trimIndent()
+    )
+
+    @Test
+    fun `Matchers generated from Kotlin symbols should equal the ones generated by kapt`() {
+        // Preparation
+        val configuration = configuration("some.pck.ComplexPojo")
+        val kaptCompilation = compilation("kapt", model, configuration).apply {
+            symbolProcessorProviders = emptyList()
+            annotationProcessors = listOf(MatcherGenerationProcessor())
+            kaptArgs = mutableMapOf(MatcherGenerationProcessorWorker.TIMESTAMP_OPTION to "none")
+        }
+        assertEquals(KotlinCompilation.ExitCode.OK, kaptCompilation.compile().exitCode)
+        val kspCompilation = compilation("ksp", model, configuration)
+
+        // Execution
+        val result = kspCompilation.compile()
+
+        // Assertion
+        assertEquals(KotlinCompilation.ExitCode.OK, result.exitCode, result.messages)
+        assertEquals(
+            Files.readString(kaptCompilation.kaptSourceDir.toPath().resolve("some/pck/ComplexPojoMatcher.java")),
+            Files.readString(kspCompilation.generatedMatcher("some/pck/ComplexPojoMatcher.java"))
+        )
+    }
+
+    @Test
+    fun `Configured packages should result in matchers for all of their types`() {
+        // Preparation
+        val compilation = compilation("ksp", model, configuration("some.*"))
+
+        // Execution
+        val result = compilation.compile()
+
+        // Assertion
+        assertEquals(KotlinCompilation.ExitCode.OK, result.exitCode, result.messages)
+        listOf("ComplexPojoMatcher.java", "BaseEntityMatcher.java", "NamedMatcher.java").forEach {
+            assertTrue(Files.isRegularFile(compilation.generatedMatcher("some/pck/$it")), it)
+        }
+    }
+
+    @Test
+    fun `Generated matchers should be usable in Kotlin`() {
+        // Preparation
+        @Language("kotlin") val test = SourceFile.kotlin(
+            "SomeTest.kt", """
+                package some.pck
+
+                import org.hamcrest.MatcherAssert.assertThat
+
+                fun main() {
+                    assertThat(BaseEntity(42L), BaseEntityMatcher.isBaseEntity().withId(42L))
+                }""".trimIndent()
+        )
+        val sources = listOf(model, configuration("some.pck.BaseEntity"), test)
+        val kspCompilation = compilation("ksp", *sources.toTypedArray())
+        assertEquals(KotlinCompilation.ExitCode.OK, kspCompilation.compile().exitCode)
+        val compilation = KotlinCompilation().apply {
+            workingDir = tempDir.resolve("compile").toFile()
+            this.sources = sources + kspCompilation.generatedSources()
+            inheritClassPath = true
+        }
+
+        // Execution
+        val result = compilation.compile()
+
+        // Assertion
+        assertEquals(KotlinCompilation.ExitCode.OK, result.exitCode, result.messages)
+        result.classLoader.loadClass("some.pck.SomeTestKt").getMethod("main").invoke(null)
+    }
+
+    @Test
+    fun `Configured types and packages without classes should be reported`() {
+        // Preparation
+        val compilation = compilation("ksp", model, configuration("some.not.existing"))
+
+        // Execution
+        val result = compilation.compile()
+
+        // Assertion
+        assertEquals(KotlinCompilation.ExitCode.OK, result.exitCode, result.messages)
+        assertTrue(result.messages.contains("Neither a type nor a package exists for 'some.not.existing'"), result.messages)
+        assertFalse(Files.exists(compilation.kspSourcesDir.toPath().resolve("java/some")))
+    }
+
+    private fun configuration(typeOrPackage: String) = SourceFile.kotlin(
+        "SomeConfiguration.kt", """
+            package some.config
+
+            import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration
+
+            @MatcherConfiguration("$typeOrPackage")
+            class SomeConfiguration""".trimIndent()
+    )
+
+    private fun compilation(name: String, vararg sources: SourceFile) = KotlinCompilation().apply {
+        workingDir = tempDir.resolve(name).toFile()
+        this.sources = sources.toList()
+        symbolProcessorProviders = listOf(MatcherGenerationSymbolProcessorProvider())
+        kspArgs = mutableMapOf(MatcherGenerationProcessorWorker.TIMESTAMP_OPTION to "none")
+        inheritClassPath = true
+    }
+
+    private fun KotlinCompilation.generatedMatcher(path: String) =
+        kspSourcesDir.toPath().resolve("java").resolve(path)
+
+    /**
+     * Sources generated by KSP are not compiled by the compilation running the processors.
+     */
+    private fun KotlinCompilation.generatedSources() =
+        Files.walk(kspSourcesDir.toPath().resolve("java")).use { files ->
+            files.filter { Files.isRegularFile(it) }
+                .map { SourceFile.fromPath(it.toFile()) }
+                .collect(Collectors.toList())
+        }
+}
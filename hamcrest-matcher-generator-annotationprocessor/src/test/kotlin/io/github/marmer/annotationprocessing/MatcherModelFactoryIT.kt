@@ -0,0 +1,45 @@
+package io.github.marmer.annotationprocessing
+
+import com.squareup.javapoet.ClassName
+import com.squareup.javapoet.ParameterizedTypeName
+import com.squareup.javapoet.TypeName
+import com.squareup.javapoet.WildcardTypeName
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.PropertyAccess
+import org.hamcrest.Matcher
+import org.junit.jupiter.api.Test
+import kotlin.test.assertEquals
+
+internal class MatcherModelFactoryIT {
+    private val factory = MatcherModelFactory({ null }, "someMarker", "", PropertyAccess.REFLECTION)
+
+    @Test
+    fun `Only properties with conflicting names should get an untyped matcher method`() {
+        // Preparation
+        val string = ClassName.get(String::class.java)
+        val properties = listOf(
+            Property("before", string, "getBefore"),
+            Property("conflict", string, "getConflict"),
+            Property("between", TypeName.INT, "getBetween"),
+            Property("conflict", TypeName.BOOLEAN, "isConflict"),
+            Property("after", string, "getAfter")
+        )
+
+        // Execution
+        val model = factory.create(ClassName.get("some.pck", "SomeType"), 0, properties, emptyList(), emptyList())
+
+        // Assertion
+        assertEquals(
+            listOf(
+                "before" to matcherOf(WildcardTypeName.supertypeOf(string)),
+                "conflict" to matcherOf(WildcardTypeName.subtypeOf(Object::class.java)),
+                "between" to matcherOf(WildcardTypeName.supertypeOf(TypeName.INT.box())),
+                "conflict" to null,
+                "after" to matcherOf(WildcardTypeName.supertypeOf(string))
+            ),
+            model.properties.map { it.name to it.matcherParameterType }
+        )
+    }
+
+    private fun matcherOf(typeArgument: TypeName) =
+        ParameterizedTypeName.get(ClassName.get(Matcher::class.java), typeArgument)
+}
@@ -0,0 +1,36 @@
+package io.github.marmer.annotationprocessing
+
+import javax.annotation.processing.*
+import javax.lang.model.SourceVersion
+import javax.lang.model.element.Element
+import javax.lang.model.element.TypeElement
+import javax.tools.JavaFileObject
+
+/**
+ * Records the originating elements the way Gradle does it, by observing the [Filer] of the processor.
+ */
+internal class OriginatingElementsRecordingProcessor(
+    private val delegate: Processor,
+    private val originatingElements: MutableMap<String, List<String>>
+) : AbstractProcessor() {
+    override fun init(processingEnv: ProcessingEnvironment) {
+        super.init(processingEnv)
+        val recordingFiler = object : Filer by processingEnv.filer {
+            override fun createSourceFile(name: CharSequence, vararg elements: Element): JavaFileObject {
+                originatingElements[name.toString()] =
+                    elements.map { (it as TypeElement).qualifiedName.toString() }
+                return processingEnv.filer.createSourceFile(name, *elements)
+            }
+        }
+        delegate.init(object : ProcessingEnvironment by processingEnv {
+            override fun getFiler() = recordingFiler
+        })
+    }
+
+    override fun process(annotations: Set<TypeElement>, roundEnv: RoundEnvironment) =
+        delegate.process(annotations, roundEnv)
+
+    override fun getSupportedAnnotationTypes(): Set<String> = delegate.supportedAnnotationTypes
+
+    override fun getSupportedSourceVersion(): SourceVersion = delegate.supportedSourceVersion
+}
@@ -0,0 +1,232 @@
+package io.github.marmer.annotationprocessing
+
+import com.google.testing.compile.CompilationSubject.assertThat
+import com.google.testing.compile.Compiler.javac
+import com.google.testing.compile.JavaFileObjects
+import org.intellij.lang.annotations.Language
+import org.junit.jupiter.api.Test
+import javax.annotation.processing.AbstractProcessor
+import javax.annotation.processing.ProcessingEnvironment
+import javax.annotation.processing.Processor
+import javax.annotation.processing.RoundEnvironment
+import javax.lang.model.SourceVersion
+import javax.lang.model.element.TypeElement
+import javax.lang.model.type.TypeMirror
+import javax.lang.model.util.Types
+import javax.tools.JavaFileObject
+import kotlin.test.assertEquals
+import kotlin.test.assertSame
+
+internal class PropertyModelCacheIT {
+    @Language("JAVA")
+    private val root = JavaFileObjects.forSourceLines(
+        "some.pck.Root", """
+            package some.pck;
+
+            public interface Root {
+                String getRoot();
+            }""".trimIndent()
+    )
+
+    @Language("JAVA")
+    private val base = JavaFileObjects.forSourceLines(
+        "some.pck.Base", """
+            package some.pck;
+
+            public interface Base extends Root {
+                String getBase();
+            }""".trimIndent()
+    )
+
+    @Language("JAVA")
+    private val left = JavaFileObjects.forSourceLines(
+        "some.pck.Left", """
+            package some.pck;
+
+            public interface Left extends Base {
+                String getLeft();
+            }""".trimIndent()
+    )
+
+    @Language("JAVA")
+    private val right = JavaFileObjects.forSourceLines(
+        "some.pck.Right", """
+            package some.pck;
+
+            public interface Right extends Base {
+                String getRight();
+            }""".trimIndent()
+    )
+
+    @Language("JAVA")
+    private val diamond = JavaFileObjects.forSourceLines(
+        "some.pck.Diamond", """
+            package some.pck;
+
+            public abstract class Diamond implements Left, Right {
+                public String getOwn(){
+                    return "own";
+                }
+            }""".trimIndent()
+    )
+
+    @Test
+    fun `Properties of diamond shaped interfaces should be generated once in depth first order`() {
+        // Preparation
+        @Language("JAVA") val configuration = JavaFileObjects.forSourceLines(
+            "some.config.SomeConfiguration", """
+                package some.config;
+
+                import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration;
+
+                @MatcherConfiguration("some.pck.Diamond")
+                public final class SomeConfiguration{
+                }""".trimIndent()
+        )
+
+        // Execution
+        val compilation = javac()
+            .withProcessors(MatcherGenerationProcessor())
+            .withOptions("-Amatchergen.timestamp=none")
+            .compile(root, base, left, right, diamond, configuration)
+
+        // Assertion
+        assertThat(compilation).succeeded()
+        val generatedSource = compilation.generatedSourceFile("some.pck.DiamondMatcher").get()
+            .getCharContent(true)
+            .toString()
+        assertEquals(
+            listOf("withOwn", "withClass", "withLeft", "withBase", "withRoot", "withRight"),
+            Regex("public DiamondMatcher (with\\w+)\\(final Matcher").findAll(generatedSource)
+                .map { it.groupValues[1] }
+                .toList()
+        )
+    }
+
+    @Test
+    fun `Shared supertypes of diamond shaped interfaces should be resolved once`() {
+        inRound(root, base, left, right, diamond) { processingEnv, resolvedTypes ->
+            // Execution
+            PropertyModelCache(processingEnv).propertiesOf(processingEnv.typeElement("some.pck.Diamond"))
+
+            // Assertion
+            assertEquals(1, resolvedTypes["some.pck.Root"])
+        }
+    }
+
+    @Test
+    fun `Supertypes shared by the types of a round should be resolved once for all of their matchers`() {
+        // Preparation
+        @Language("JAVA") val baseEntity = JavaFileObjects.forSourceLines(
+            "some.base.BaseEntity", """
+                package some.base;
+
+                public abstract class BaseEntity implements some.pck.Root {
+                    public long getId(){
+                        return 42;
+                    }
+                }""".trimIndent()
+        )
+        @Language("JAVA") val someEntity = JavaFileObjects.forSourceLines(
+            "some.entity.SomeEntity", """
+                package some.entity;
+
+                public abstract class SomeEntity extends some.base.BaseEntity {
+                    public String getSome(){
+                        return "some";
+                    }
+                }""".trimIndent()
+        )
+        @Language("JAVA") val otherEntity = JavaFileObjects.forSourceLines(
+            "some.entity.OtherEntity", """
+                package some.entity;
+
+                public abstract class OtherEntity extends some.base.BaseEntity {
+                    public String getOther(){
+                        return "other";
+                    }
+                }""".trimIndent()
+        )
+        @Language("JAVA") val configuration = JavaFileObjects.forSourceLines(
+            "some.config.SomeConfiguration", """
+                package some.config;
+
+                import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration;
+
+                @MatcherConfiguration("some.entity")
+                public final class SomeConfiguration{
+                }""".trimIndent()
+        )
+        val resolvedTypes = mutableMapOf<String, Int>()
+        val generationProcessor = MatcherGenerationProcessor()
+        val processor = object : Processor by generationProcessor {
+            override fun init(processingEnv: ProcessingEnvironment) =
+                generationProcessor.init(processingEnv.countingResolvedTypes(resolvedTypes))
+        }
+
+        // Execution
+        val compilation = javac()
+            .withProcessors(processor)
+            .withOptions("-Amatchergen.timestamp=none")
+            .compile(root, baseEntity, someEntity, otherEntity, configuration)
+
+        // Assertion
+        assertThat(compilation).succeeded()
+        assertThat(compilation).generatedSourceFile("some.entity.SomeEntityMatcher")
+        assertThat(compilation).generatedSourceFile("some.entity.OtherEntityMatcher")
+        assertEquals(1, resolvedTypes["some.pck.Root"])
+    }
+
+    @Test
+    fun `Properties of a type should be computed only once`() {
+        inRound(root, base, left, right, diamond) { processingEnv, _ ->
+            // Preparation
+            val cache = PropertyModelCache(processingEnv)
+            val type = processingEnv.typeElement("some.pck.Diamond")
+
+            // Execution
+            val properties = cache.propertiesOf(type)
+
+            // Assertion
+            assertSame(properties, cache.propertiesOf(type))
+        }
+    }
+
+    private fun inRound(
+        vararg sources: JavaFileObject,
+        test: (processingEnv: ProcessingEnvironment, resolvedTypes: Map<String, Int>) -> Unit
+    ) {
+        val processor = object : AbstractProcessor() {
+            override fun process(annotations: Set<TypeElement>, roundEnv: RoundEnvironment): Boolean {
+                if (!roundEnv.processingOver()) {
+                    val resolvedTypes = mutableMapOf<String, Int>()
+                    test(processingEnv.countingResolvedTypes(resolvedTypes), resolvedTypes)
+                }
+                return false
+            }
+
+            override fun getSupportedAnnotationTypes() = setOf("*")
+
+            override fun getSupportedSourceVersion(): SourceVersion = SourceVersion.latestSupported()
+        }
+        assertThat(javac().withProcessors(processor).compile(*sources)).succeeded()
+    }
+
+    /**
+     * Direct supertypes are resolved by [Types.asElement] each time a type is walked, so counting the resolutions of a
+     * supertype tells how often its subtypes have been walked.
+     */
+    private fun ProcessingEnvironment.countingResolvedTypes(resolvedTypes: MutableMap<String, Int>): ProcessingEnvironment {
+        val types = typeUtils
+        val countingTypes = object : Types by types {
+            override fun asElement(t: TypeMirror) = types.asElement(t).also {
+                resolvedTypes.merge(types.erasure(t).toString(), 1, Int::plus)
+            }
+        }
+        return object : ProcessingEnvironment by this {
+            override fun getTypeUtils() = countingTypes
+        }
+    }
+
+    private fun ProcessingEnvironment.typeElement(name: String) = elementUtils.getTypeElement(name)
+}
@@ -0,0 +1,443 @@
+package io.github.marmer.annotationprocessing
+
+import com.google.testing.compile.Compilation
+import com.google.testing.compile.CompilationSubject.assertThat
+import com.google.testing.compile.Compiler.javac
+import com.google.testing.compile.JavaFileObjects
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.GeneratedBeanMatcher
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.PropertyAccess
+import org.hamcrest.Matcher
+import org.intellij.lang.annotations.Language
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import java.io.ByteArrayOutputStream
+import java.io.File
+import java.io.PrintStream
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.Paths
+import java.util.jar.JarEntry
+import java.util.jar.JarOutputStream
+import javax.tools.JavaFileObject
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+
+internal class StandaloneMatcherGeneratorIT {
+    @TempDir
+    lateinit var tempDir: Path
+
+    @Language("JAVA")
+    private val baseEntity = JavaFileObjects.forSourceLines(
+        "some.base.BaseEntity", """
+            package some.base;
+
+            public abstract class BaseEntity<ID> {
+                public ID getId(){
+                    return null;
+                }
+
+                public long getVersion(){
+                    return 0;
+                }
+            }""".trimIndent()
+    )
+
+    @Language("JAVA")
+    private val named = JavaFileObjects.forSourceLines(
+        "some.base.Named", """
+            package some.base;
+
+            public interface Named {
+                default String getName(){
+                    return "name";
+                }
+            }""".trimIndent()
+    )
+
+    @Language("JAVA")
+    private val complexPojo = JavaFileObjects.forSourceLines(
+        "some.other.pck.ComplexPojo", """
+            package some.other.pck;
+
+            import java.util.*;
+            import org.hamcrest.Matcher;
+            import some.base.BaseEntity;
+            import some.base.Named;
+
+            public class ComplexPojo<T extends Comparable<T>> extends BaseEntity<Long> implements Named {
+                public T getValue(){
+                    return null;
+                }
+
+                public int getCount(){
+                    return 0;
+                }
+
+                public double getRatio(){
+                    return 0;
+                }
+
+                public boolean isActive(){
+                    return true;
+                }
+
+                public Boolean getEnabled(){
+                    return true;
+                }
+
+                public List<? extends Number> getNumbers(){
+                    return null;
+                }
+
+                public Map<String, List<T>> getGroups(){
+                    return null;
+                }
+
+                public Comparator<? super String> getComparator(){
+                    return null;
+                }
+
+                public Map.Entry<String, int[]> getEntry(){
+                    return null;
+                }
+
+                public String[][] getMatrix(){
+                    return null;
+                }
+
+                public Matcher<String> getMatcher(){
+                    return null;
+                }
+
+                public String getFlag(){
+                    return null;
+                }
+
+                public boolean isFlag(){
+                    return true;
+                }
+
+                public static String getStatic(){
+                    return null;
+                }
+
+                public String getWithParameter(String parameter){
+                    return parameter;
+                }
+
+                public static class Inner {
+                    public int getInnerValue(){
+                        return 0;
+                    }
+                }
+
+                protected static class ProtectedInner {
+                }
+
+                private static class PrivateInner {
+                }
+            }""".trimIndent()
+    )
+
+    @Language("JAVA")
+    private val tags = JavaFileObjects.forSourceLines(
+        "some.other.pck.Tags", """
+            package some.other.pck;
+
+            import java.util.ArrayList;
+
+            public class Tags extends ArrayList<String> {
+                public String getCategory(){
+                    return "category";
+                }
+            }""".trimIndent()
+    )
+
+    @Language("JAVA")
+    private val handWrittenMatcher = JavaFileObjects.forSourceLines(
+        "some.other.pck.ShortTagMatcher", """
+            package some.other.pck;
+
+            import org.hamcrest.Description;
+            import org.hamcrest.TypeSafeMatcher;
+
+            public class ShortTagMatcher extends TypeSafeMatcher<String> {
+                @Override
+                protected boolean matchesSafely(final String item){
+                    return item.length() < 5;
+                }
+
+                @Override
+                public void describeTo(final Description description){
+                    description.appendText("a short tag");
+                }
+            }""".trimIndent()
+    )
+
+    private val sources = listOf(baseEntity, named, complexPojo, tags)
+
+    @Test
+    fun `Matchers generated from bytecode should equal the ones of the annotation processor`() {
+        // Preparation
+        val classes = compileToDirectory()
+        PropertyAccess.values().forEach { propertyAccess ->
+            val processorCompilation = compileWithProcessor("some.other.pck", propertyAccess)
+            assertThat(processorCompilation).succeeded()
+            val outputDirectory = tempDir.resolve(propertyAccess.name)
+
+            // Execution
+            val result = generator(listOf(classes), outputDirectory, propertyAccess)
+                .generate(listOf("some.other.pck"))
+
+            // Assertion
+            assertEquals(emptyList(), result.warnings)
+            listOf("some.other.pck.ComplexPojoMatcher", "some.other.pck.TagsMatcher").forEach {
+                assertEquals(
+                    processorCompilation.generatedSourceFile(it).get().getCharContent(true).toString(),
+                    Files.readString(outputDirectory.resolve("${it.replace('.', '/')}.java")),
+                    "$it with $propertyAccess"
+                )
+            }
+        }
+    }
+
+    @Test
+    fun `Types located in jars should be scanned`() {
+        // Preparation
+        val jar = compileToDirectory().toJar()
+
+        // Execution
+        val result = generator(listOf(jar), tempDir.resolve("out")).generate(listOf("some.other.pck.Tags"))
+
+        // Assertion
+        assertEquals(emptyList(), result.warnings)
+        assertEquals(listOf(tempDir.resolve("out/some/other/pck/TagsMatcher.java")), result.generatedFiles)
+    }
+
+    @Test
+    fun `Configured nested types should result in the matcher of their outermost type`() {
+        // Execution
+        val result = generator(listOf(compileToDirectory()), tempDir.resolve("out"))
+            .generate(listOf("some.other.pck.ComplexPojo.Inner"))
+
+        // Assertion
+        assertEquals(listOf(tempDir.resolve("out/some/other/pck/ComplexPojoMatcher.java")), result.generatedFiles)
+    }
+
+    @Test
+    fun `Package patterns should be resolved`() {
+        // Execution
+        val result = generator(listOf(compileToDirectory()), tempDir.resolve("out"))
+            .generate(listOf("some.**"))
+
+        // Assertion
+        assertEquals(
+            listOf(
+                "some/base/BaseEntityMatcher.java",
+                "some/base/NamedMatcher.java",
+                "some/other/pck/ComplexPojoMatcher.java",
+                "some/other/pck/TagsMatcher.java"
+            ).map { tempDir.resolve("out").resolve(it) },
+            result.generatedFiles.sorted()
+        )
+    }
+
+    @Test
+    fun `Configured types and packages without classes should be reported`() {
+        // Execution
+        val result = generator(listOf(compileToDirectory()), tempDir.resolve("out"))
+            .generate(listOf("some.not.existing", "some.*.nothing"))
+
+        // Assertion
+        assertEquals(
+            listOf(
+                "Neither a type nor a package exists for 'some.not.existing'",
+                "Neither a type nor a package exists for 'some.*.nothing'"
+            ),
+            result.warnings
+        )
+        assertEquals(emptyList(), result.generatedFiles)
+    }
+
+    @Test
+    fun `Supertypes missing in the classpath should be reported`() {
+        // Preparation
+        val classes = compileToDirectory()
+        Files.delete(classes.resolve("some/base/BaseEntity.class"))
+
+        // Execution
+        val result = generator(listOf(classes), tempDir.resolve("out")).generate(listOf("some.other.pck.ComplexPojo"))
+
+        // Assertion
+        assertEquals(
+            listOf("Properties of 'some.base.BaseEntity' are missing, because it is not part of the classpath"),
+            result.warnings
+        )
+    }
+
+    @Test
+    fun `Matchers should not be generated for matchers`() {
+        // Preparation
+        val processorCompilation = compileWithProcessor("some.other.pck", PropertyAccess.REFLECTION)
+        val classes = processorCompilation.writeClassesTo(tempDir.resolve("classes"))
+
+        // Execution
+        val result = generator(listOf(classes, locationOf(Matcher::class.java), locationOf(GeneratedBeanMatcher::class.java)), tempDir.resolve("out"))
+            .generate(listOf("some.other.pck"))
+
+        // Assertion
+        assertEquals(
+            listOf("ComplexPojoMatcher.java", "TagsMatcher.java").map { tempDir.resolve("out/some/other/pck").resolve(it) },
+            result.generatedFiles.sorted()
+        )
+    }
+
+    @Test
+    fun `Matchers should be generated for hand written matchers like the annotation processor does`() {
+        // Preparation
+        val classes = compileToDirectory(handWrittenMatcher)
+        val processorCompilation = compileWithProcessor("some.other.pck", PropertyAccess.REFLECTION, handWrittenMatcher)
+        assertThat(processorCompilation).succeeded()
+
+        // Execution
+        val result = generator(listOf(classes, locationOf(Matcher::class.java)), tempDir.resolve("out"))
+            .generate(listOf("some.other.pck"))
+
+        // Assertion
+        assertEquals(emptyList(), result.warnings)
+        assertEquals(
+            processorCompilation.generatedSourceFile("some.other.pck.ShortTagMatcherMatcher").get()
+                .getCharContent(true)
+                .toString(),
+            Files.readString(tempDir.resolve("out/some/other/pck/ShortTagMatcherMatcher.java"))
+        )
+    }
+
+    @Test
+    fun `Generated matchers should be skipped without the dependencies in the classpath`() {
+        // Preparation
+        val processorCompilation = compileWithProcessor("some.other.pck", PropertyAccess.REFLECTION)
+        val classes = processorCompilation.writeClassesTo(tempDir.resolve("classes"))
+
+        // Execution
+        val result = generator(listOf(classes), tempDir.resolve("out")).generate(listOf("some.other.pck"))
+
+        // Assertion
+        assertEquals(
+            listOf("ComplexPojoMatcher.java", "TagsMatcher.java").map { tempDir.resolve("out/some/other/pck").resolve(it) },
+            result.generatedFiles.sorted()
+        )
+    }
+
+    @Test
+    fun `Command line interface should generate matchers`() {
+        // Preparation
+        val classes = compileToDirectory()
+        val out = ByteArrayOutputStream()
+        val err = ByteArrayOutputStream()
+
+        // Execution
+        val exitCode = StandaloneMatcherGeneratorCli.run(
+            arrayOf(
+                "--classpath", "$classes${File.pathSeparator}",
+                "--output", "${tempDir.resolve("out")}",
+                "--property-access", "GETTER",
+                "--timestamp", "none",
+                "some.other.pck.Tags"
+            ),
+            PrintStream(out),
+            PrintStream(err)
+        )
+
+        // Assertion
+        assertEquals(0, exitCode, err.toString())
+        assertEquals("Generated 1 matchers in ${tempDir.resolve("out")}", out.toString().trim())
+        assertTrue(Files.readString(tempDir.resolve("out/some/other/pck/TagsMatcher.java")).contains("Tags::getCategory"))
+    }
+
+    @Test
+    fun `Command line interface should print the usage for invalid arguments`() {
+        // Preparation
+        val err = ByteArrayOutputStream()
+
+        // Execution
+        val exitCode = StandaloneMatcherGeneratorCli.run(
+            arrayOf("--output", "${tempDir.resolve("out")}", "some.other.pck"),
+            PrintStream(ByteArrayOutputStream()),
+            PrintStream(err)
+        )
+
+        // Assertion
+        assertEquals(2, exitCode)
+        assertTrue(err.toString().startsWith("Missing option --classpath"), err.toString())
+        assertTrue(err.toString().contains("Usage: "), err.toString())
+    }
+
+    private fun generator(
+        classpath: List<Path>,
+        outputDirectory: Path,
+        propertyAccess: PropertyAccess = PropertyAccess.REFLECTION
+    ) = StandaloneMatcherGenerator(
+        classpath,
+        outputDirectory,
+        "",
+        propertyAccess,
+        StandaloneMatcherGenerator.timeStampFor(MatcherGenerationProcessorWorker.TIMESTAMP_NONE)
+    )
+
+    private fun compileWithProcessor(
+        typeOrPackage: String,
+        propertyAccess: PropertyAccess,
+        vararg additionalSources: JavaFileObject
+    ): Compilation {
+        @Language("JAVA") val configuration = JavaFileObjects.forSourceLines(
+            "some.pck.SomeConfiguration", """
+                package some.pck;
+
+                import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration;
+                import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration;
+                import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.PropertyAccess;
+
+                @MatcherConfiguration(value = "$typeOrPackage", generation = @GenerationConfiguration(propertyAccess = PropertyAccess.$propertyAccess))
+                public final class SomeConfiguration{
+                }""".trimIndent()
+        )
+        return javac()
+            .withProcessors(MatcherGenerationProcessor())
+            .withOptions("-Amatchergen.timestamp=none")
+            .compile(sources + additionalSources + configuration)
+    }
+
+    private fun locationOf(type: Class<*>) = Paths.get(type.protectionDomain.codeSource.location.toURI())
+
+    private fun compileToDirectory(vararg additionalSources: JavaFileObject): Path {
+        val compilation = javac().compile(sources + additionalSources)
+        assertThat(compilation).succeeded()
+        return compilation.writeClassesTo(tempDir.resolve("classes"))
+    }
+
+    private fun Compilation.writeClassesTo(directory: Path): Path {
+        generatedFiles()
+            .filter { it.kind == JavaFileObject.Kind.CLASS }
+            .forEach {
+                val file = directory.resolve(it.toUri().path.removePrefix("/CLASS_OUTPUT/"))
+                Files.createDirectories(file.parent)
+                it.openInputStream().use { input -> Files.copy(input, file) }
+            }
+        return directory
+    }
+
+    private fun Path.toJar(): Path {
+        val jar = tempDir.resolve("classes.jar")
+        JarOutputStream(Files.newOutputStream(jar)).use { jarStream ->
+            Files.walk(this)
+                .filter { Files.isRegularFile(it) }
+                .forEach {
+                    jarStream.putNextEntry(JarEntry(relativize(it).toString().replace(File.separatorChar, '/')))
+                    Files.copy(it, jarStream)
+                    jarStream.closeEntry()
+                }
+        }
+        return jar
+    }
+}
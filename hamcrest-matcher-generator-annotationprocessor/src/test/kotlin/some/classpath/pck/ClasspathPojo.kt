@@ -0,0 +1,8 @@
+package some.classpath.pck
+
+/**
+ * Model only located in the classpath of the processor ITs.
+ */
+class ClasspathPojo {
+    val someProperty = "someValue"
+}
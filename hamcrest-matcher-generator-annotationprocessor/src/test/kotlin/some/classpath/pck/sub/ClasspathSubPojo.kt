@@ -0,0 +1,8 @@
+package some.classpath.pck.sub
+
+/**
+ * Model only located in the classpath of the processor ITs.
+ */
+class ClasspathSubPojo {
+    val someProperty = "someValue"
+}
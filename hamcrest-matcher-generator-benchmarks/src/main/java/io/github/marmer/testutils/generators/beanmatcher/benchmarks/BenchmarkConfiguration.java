@@ -0,0 +1,13 @@
+package io.github.marmer.testutils.generators.beanmatcher.benchmarks;
+
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration;
+
+@MatcherConfiguration({
+    "foo.bar.sample.model.SomePojo",
+    "foo.bar.sample.model.ParentPojo",
+    "foo.bar.sample.model.SomeLombokPojo",
+    "foo.bar.sample.model.inheritance"
+})
+public class BenchmarkConfiguration {
+
+}
@@ -0,0 +1,22 @@
+package io.github.marmer.testutils.generators.beanmatcher.benchmarks;
+
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.PackageConfiguration;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.PropertyAccess;
+
+@MatcherConfiguration(
+    value = {
+        "foo.bar.sample.model.SomePojo",
+        "foo.bar.sample.model.ParentPojo",
+        "foo.bar.sample.model.SomeLombokPojo",
+        "foo.bar.sample.model.inheritance"
+    },
+    generation = @GenerationConfiguration(
+        packageConfig = @PackageConfiguration("getteraccess"),
+        propertyAccess = PropertyAccess.GETTER
+    )
+)
+public class GetterAccessBenchmarkConfiguration {
+
+}
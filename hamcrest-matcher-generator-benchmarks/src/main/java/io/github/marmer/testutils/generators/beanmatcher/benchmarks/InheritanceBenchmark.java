@@ -0,0 +1,101 @@
+package io.github.marmer.testutils.generators.beanmatcher.benchmarks;
+
+import foo.bar.sample.model.inheritance.FirstChild;
+import foo.bar.sample.model.inheritance.Main;
+import foo.bar.sample.model.inheritance.SecondChild;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static foo.bar.sample.model.inheritance.FirstChildMatcher.isFirstChild;
+import static foo.bar.sample.model.inheritance.MainMatcher.isMain;
+import static foo.bar.sample.model.inheritance.SecondChildMatcher.isSecondChild;
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.contains;
+
+/**
+ * Measures nested matchers of the inheritance sample models, once with reflective and once with getter property
+ * access. Throughput and the latency distribution are measured by default, add <code>-prof gc</code> for the allocation
+ * rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InheritanceBenchmark {
+    private static final String FIRST_NAME = "First name";
+    private static final String SECOND_NAME = "Second name";
+
+    private Matcher<Main> mainMatcher;
+    private Matcher<Main> mainGetterMatcher;
+    private Main matchingMain;
+    private Main notMatchingMain;
+
+    @Setup
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void setUp() {
+        final UUID firstId = UUID.randomUUID();
+        final UUID secondId = UUID.randomUUID();
+        matchingMain = new Main(asList(
+                new FirstChild(firstId, FIRST_NAME),
+                new SecondChild(secondId, SECOND_NAME)));
+        notMatchingMain = new Main(asList(
+                new FirstChild(firstId, FIRST_NAME),
+                new SecondChild(secondId, "Other name")));
+
+        mainMatcher = isMain()
+                .withParents(contains(
+                        (Matcher) isFirstChild()
+                                .withId(firstId)
+                                .withName(FIRST_NAME),
+                        isSecondChild()
+                                .withId(secondId)
+                                .withName(SECOND_NAME)));
+        mainGetterMatcher = getteraccess.foo.bar.sample.model.inheritance.MainMatcher.isMain()
+                .withParents(contains(
+                        (Matcher) getteraccess.foo.bar.sample.model.inheritance.FirstChildMatcher.isFirstChild()
+                                .withId(firstId)
+                                .withName(FIRST_NAME),
+                        getteraccess.foo.bar.sample.model.inheritance.SecondChildMatcher.isSecondChild()
+                                .withId(secondId)
+                                .withName(SECOND_NAME)));
+    }
+
+    @Benchmark
+    public boolean matchMain() {
+        return mainMatcher.matches(matchingMain);
+    }
+
+    @Benchmark
+    public boolean matchMainByGetters() {
+        return mainGetterMatcher.matches(matchingMain);
+    }
+
+    @Benchmark
+    public String mismatchMain() {
+        return SamplePojoBenchmark.describeFailure(mainMatcher, notMatchingMain);
+    }
+
+    @Benchmark
+    public String mismatchMainByGetters() {
+        return SamplePojoBenchmark.describeFailure(mainGetterMatcher, notMatchingMain);
+    }
+
+    @Benchmark
+    public String describeMain() {
+        return StringDescription.toString(mainMatcher);
+    }
+}
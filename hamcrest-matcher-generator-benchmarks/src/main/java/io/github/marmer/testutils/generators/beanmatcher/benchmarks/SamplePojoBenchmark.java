@@ -0,0 +1,131 @@
+package io.github.marmer.testutils.generators.beanmatcher.benchmarks;
+
+import foo.bar.sample.model.ParentPojo;
+import foo.bar.sample.model.SomeLombokPojo;
+import foo.bar.sample.model.SomePojo;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static foo.bar.sample.model.ParentPojoMatcher.isParentPojo;
+import static foo.bar.sample.model.SomeLombokPojoMatcher.isSomeLombokPojo;
+import static foo.bar.sample.model.SomePojoMatcher.isSomePojo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+
+/**
+ * Measures matchers generated for the sample models, once with reflective and once with getter property access.
+ * Throughput and the latency distribution are measured by default, add <code>-prof gc</code> for the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SamplePojoBenchmark {
+    private Matcher<SomePojo> somePojoMatcher;
+    private Matcher<SomePojo> somePojoGetterMatcher;
+    private Matcher<ParentPojo> parentPojoMatcher;
+    private Matcher<SomeLombokPojo> someLombokPojoMatcher;
+    private SomePojo matchingPojo;
+    private SomePojo notMatchingPojo;
+    private SomeLombokPojo someLombokPojo;
+
+    @Setup
+    public void setUp() {
+        matchingPojo = newSomePojo("pojoFieldValue", 42);
+        notMatchingPojo = newSomePojo("otherValue", 43);
+        someLombokPojo = new SomeLombokPojo();
+        someLombokPojo.setSomeProp("somePropValue");
+
+        somePojoMatcher = isSomePojo()
+                .withClass(SomePojo.class)
+                .withParentField("parentFieldValue")
+                .withPojoField(startsWith("pojo"))
+                .withIntProperty(42);
+        somePojoGetterMatcher = getteraccess.foo.bar.sample.model.SomePojoMatcher.isSomePojo()
+                .withClass(SomePojo.class)
+                .withParentField("parentFieldValue")
+                .withPojoField(startsWith("pojo"))
+                .withIntProperty(42);
+        parentPojoMatcher = isParentPojo()
+                .withParentField(equalTo("parentFieldValue"));
+        someLombokPojoMatcher = isSomeLombokPojo()
+                .withSomeProp("somePropValue");
+    }
+
+    private static SomePojo newSomePojo(final String pojoField, final int intProperty) {
+        final SomePojo somePojo = new SomePojo();
+        somePojo.setParentField("parentFieldValue");
+        somePojo.setPojoField(pojoField);
+        somePojo.setIntProperty(intProperty);
+        return somePojo;
+    }
+
+    @Benchmark
+    public boolean matchSomePojo() {
+        return somePojoMatcher.matches(matchingPojo);
+    }
+
+    @Benchmark
+    public boolean matchSomePojoByGetters() {
+        return somePojoGetterMatcher.matches(matchingPojo);
+    }
+
+    @Benchmark
+    public String mismatchSomePojo() {
+        return describeFailure(somePojoMatcher, notMatchingPojo);
+    }
+
+    @Benchmark
+    public String mismatchSomePojoByGetters() {
+        return describeFailure(somePojoGetterMatcher, notMatchingPojo);
+    }
+
+    @Benchmark
+    public String describeSomePojo() {
+        return StringDescription.toString(somePojoMatcher);
+    }
+
+    @Benchmark
+    public boolean matchParentPojo() {
+        return parentPojoMatcher.matches(matchingPojo);
+    }
+
+    @Benchmark
+    public boolean matchSomeLombokPojo() {
+        return someLombokPojoMatcher.matches(someLombokPojo);
+    }
+
+    @Benchmark
+    public boolean createAndMatchSomePojo() {
+        return isSomePojo()
+                .withParentField("parentFieldValue")
+                .withPojoField("pojoFieldValue")
+                .matches(matchingPojo);
+    }
+
+    /**
+     * Same steps as a failing assertion: match, describe the matcher and describe the mismatch.
+     */
+    static String describeFailure(final Matcher<?> matcher, final Object item) {
+        if (matcher.matches(item)) {
+            throw new IllegalStateException("Item is expected to not match");
+        }
+        final StringDescription description = new StringDescription();
+        description.appendDescriptionOf(matcher).appendText("\n     but: ");
+        matcher.describeMismatch(item, description);
+        return description.toString();
+    }
+}
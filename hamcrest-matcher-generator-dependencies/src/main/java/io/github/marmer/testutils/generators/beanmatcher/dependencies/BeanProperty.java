@@ -0,0 +1,128 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Descriptor of a property of a bean within a {@link PropertyTable}: its name, its type and the getter to read it.
+ * Primitive properties keep their getter without boxing as well, so they can be compared without boxing.
+ *
+ * @param <T> Type of the bean.
+ */
+public final class BeanProperty<T> {
+
+    private final String name;
+    private final Class<?> type;
+    private final Function<? super T, ?> getter;
+    private final Object primitiveGetter;
+
+    private BeanProperty(final String name,
+                         final Class<?> type,
+                         final Function<? super T, ?> getter,
+                         final Object primitiveGetter) {
+        this.name = name;
+        this.type = type;
+        this.getter = getter;
+        this.primitiveGetter = primitiveGetter;
+    }
+
+    /**
+     * @param name   Name of the property used in descriptions.
+     * @param getter Getter used to read the property (usually a method reference).
+     * @param type   Raw type of the property.
+     * @param <T>    Type of the bean.
+     * @return Descriptor of the property.
+     */
+    public static <T> BeanProperty<T> of(final String name, final Function<? super T, ?> getter, final Class<?> type) {
+        return new BeanProperty<>(name, type, getter, null);
+    }
+
+    /**
+     * Descriptor of an int property. Matchers added by slot (e.g. by {@link BeanPropertyMatcher#withInt(int, int)})
+     * read it by the given getter without boxing. Generated matchers with getter access use it for the int properties
+     * of their <code>PROPERTIES</code> table.
+     *
+     * @param name   Name of the property used in descriptions.
+     * @param getter Getter used to read the property (usually a method reference).
+     * @param <T>    Type of the bean.
+     * @return Descriptor of the property.
+     */
+    public static <T> BeanProperty<T> ofInt(final String name, final ToIntFunction<? super T> getter) {
+        return new BeanProperty<T>(name, int.class, getter::applyAsInt, getter);
+    }
+
+    /**
+     * Descriptor of a long property, read without boxing by matchers added by slot, like described for
+     * {@link #ofInt(String, ToIntFunction)}. Generated matchers with getter access use it for the long properties of
+     * their <code>PROPERTIES</code> table.
+     *
+     * @param name   Name of the property used in descriptions.
+     * @param getter Getter used to read the property (usually a method reference).
+     * @param <T>    Type of the bean.
+     * @return Descriptor of the property.
+     */
+    public static <T> BeanProperty<T> ofLong(final String name, final ToLongFunction<? super T> getter) {
+        return new BeanProperty<T>(name, long.class, getter::applyAsLong, getter);
+    }
+
+    /**
+     * Descriptor of a double property, read without boxing by matchers added by slot, like described for
+     * {@link #ofInt(String, ToIntFunction)}. Generated matchers with getter access use it for the double properties of
+     * their <code>PROPERTIES</code> table.
+     *
+     * @param name   Name of the property used in descriptions.
+     * @param getter Getter used to read the property (usually a method reference).
+     * @param <T>    Type of the bean.
+     * @return Descriptor of the property.
+     */
+    public static <T> BeanProperty<T> ofDouble(final String name, final ToDoubleFunction<? super T> getter) {
+        return new BeanProperty<T>(name, double.class, getter::applyAsDouble, getter);
+    }
+
+    /**
+     * Descriptor of a boolean property, read without boxing by matchers added by slot, like described for
+     * {@link #ofInt(String, ToIntFunction)}. Generated matchers with getter access use it for the boolean properties of
+     * their <code>PROPERTIES</code> table.
+     *
+     * @param name   Name of the property used in descriptions.
+     * @param getter Getter used to read the property (usually a method reference).
+     * @param <T>    Type of the bean.
+     * @return Descriptor of the property.
+     */
+    public static <T> BeanProperty<T> ofBoolean(final String name, final Predicate<? super T> getter) {
+        return new BeanProperty<T>(name, boolean.class, getter::test, getter);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return Getter of the property. Values of primitive properties are boxed.
+     */
+    public Function<? super T, ?> getGetter() {
+        return getter;
+    }
+
+    /**
+     * @param primitiveType Primitive type the property is expected to be of.
+     * @param <G>           Type of the getter (e.g. {@link ToIntFunction} for int).
+     * @return Getter which reads the property without boxing.
+     * @throws IllegalArgumentException if the property is not of the given primitive type.
+     */
+    @SuppressWarnings("unchecked")
+    <G> G getPrimitiveGetter(final Class<?> primitiveType) {
+        if (type != primitiveType || primitiveGetter == null) {
+            throw new IllegalArgumentException(
+                    "Property '" + name + "' is of type " + type.getName() + " and not " + primitiveType.getName());
+        }
+        return (G) primitiveGetter;
+    }
+}
@@ -1,9 +1,12 @@
 package io.github.marmer.testutils.generators.beanmatcher.dependencies;
 
-import static org.hamcrest.Matchers.allOf;
-
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
@@ -19,62 +22,388 @@ import org.hamcrest.TypeSafeMatcher;
 public class BeanPropertyMatcher<T> extends TypeSafeMatcher<T> {
 
     @SuppressWarnings("squid:S2293")
-    private final List<Matcher<?>> hasPropertyMatcher = new ArrayList<>();
-    private final Matcher<?> instanceOfMatcher;
+    private final List<PropertyMatcher<?>> hasPropertyMatcher = new ArrayList<>();
+    private final Class<? super T> expectedClass;
+    private final PropertyTable<T> propertyTable;
+    private int maxDescriptionLength;
+    private FrozenBeanPropertyMatcher<T> frozenMatcher;
 
     public BeanPropertyMatcher(final Class<? super T> expectedClass) {
-        instanceOfMatcher = Matchers.instanceOf(expectedClass);
+        this.expectedClass = expectedClass;
+        this.propertyTable = null;
+    }
+
+    /**
+     * Creates a matcher whose properties are added by their slot in the given table.
+     *
+     * @param propertyTable Properties of the bean type.
+     */
+    public BeanPropertyMatcher(final PropertyTable<T> propertyTable) {
+        this.expectedClass = propertyTable.getBeanType();
+        this.propertyTable = propertyTable;
     }
 
     @Override
     public void describeTo(final Description description) {
-        getFullInnerMatcher().describeTo(description);
+        freeze().describeTo(description);
     }
 
     @Override
     protected boolean matchesSafely(final T item) {
-        return getFullInnerMatcher().matches(item);
+        return freeze().matches(item);
+    }
+
+    /**
+     * Returns an immutable snapshot of this matcher which is safe to be used by multiple threads at the same time.
+     * The snapshot is created only once and reused until the next property is added, so matching with this matcher
+     * itself does not allocate anything on its own either.
+     *
+     * @return Snapshot of this matcher with all properties added so far.
+     */
+    public FrozenBeanPropertyMatcher<T> freeze() {
+        if (frozenMatcher == null) {
+            frozenMatcher = new FrozenBeanPropertyMatcher<>(expectedClass, hasPropertyMatcher, maxDescriptionLength);
+        }
+        return frozenMatcher;
     }
 
-    @SuppressWarnings("unchecked")
-    private Matcher<?> getFullInnerMatcher() {
-        @SuppressWarnings("squid:S2293") final List<Matcher<?>> fullMatcher = new ArrayList<>();
-        fullMatcher.add(instanceOfMatcher);
-        fullMatcher.addAll(hasPropertyMatcher);
+    /**
+     * Limits the length of descriptions and mismatch descriptions. Everything behind the limit is cut off and marked
+     * with "...". Values behind the limit are not rendered at all, so their <code>toString()</code> is never called.
+     *
+     * @param maxLength Maximum number of characters of a description or 0 for no limit (the default).
+     * @return this
+     * @throws IllegalArgumentException if maxLength is negative.
+     */
+    public BeanPropertyMatcher<T> limitDescriptionLength(final int maxLength) {
+        if (maxLength < 0) {
+            throw new IllegalArgumentException("maxLength must not be negative but was " + maxLength);
+        }
+        maxDescriptionLength = maxLength;
+        frozenMatcher = null;
 
-        return allOf(fullMatcher.toArray(new Matcher[0]));
+        return this;
     }
 
+    /**
+     * Matches all items in one pass. See {@link FrozenBeanPropertyMatcher#matchAll(Iterable, int)}.
+     *
+     * @param items       Items to match.
+     * @param maxFailures Maximum number of failing items to collect. Use 1 to stop at the first one.
+     * @return Result with the indices of the failing items.
+     */
+    public BulkMatchResult matchAll(final Iterable<? extends T> items, final int maxFailures) {
+        return freeze().matchAll(items, maxFailures);
+    }
+
+    /**
+     * Matches all items in one pass. See {@link FrozenBeanPropertyMatcher#matchAll(Iterable, int)}.
+     *
+     * @param items       Items to match.
+     * @param maxFailures Maximum number of failing items to collect. Use 1 to stop at the first one.
+     * @return Result with the indices of the failing items.
+     */
+    public BulkMatchResult matchAll(final T[] items, final int maxFailures) {
+        return freeze().matchAll(items, maxFailures);
+    }
+
+    /**
+     * Adds a matcher for a property which is looked up by its name. The getter of a property is resolved only once per
+     * bean type and shared by all matchers.
+     *
+     * @param propertyName Name of the property.
+     * @param matcher      Matcher for the value of the property.
+     * @return this
+     */
     public BeanPropertyMatcher<T> with(final String propertyName, final Matcher<?> matcher) {
-        hasPropertyMatcher.add(Matchers.hasProperty(propertyName, matcher));
+        return addPropertyMatcher(new ReflectivePropertyMatcher<>(propertyName, matcher));
+    }
 
-        return this;
+    /**
+     * Adds a matcher for a property which is read by the given getter instead of being looked up by reflection.
+     *
+     * @param propertyName Name of the property used in descriptions.
+     * @param getter       Getter used to read the property (usually a method reference).
+     * @param matcher      Matcher for the value of the property.
+     * @return this
+     */
+    public BeanPropertyMatcher<T> with(final String propertyName,
+                                       final Function<? super T, ?> getter,
+                                       final Matcher<?> matcher) {
+        return addPropertyMatcher(new GetterPropertyMatcher<>(expectedClass, propertyName, getter, matcher));
     }
 
-    public BeanPropertyMatcher<T> with(final String propertyName) {
-        hasPropertyMatcher.add(Matchers.hasProperty(propertyName));
+    /**
+     * Adds a matcher for an int property which is compared without boxing.
+     *
+     * @param propertyName Name of the property used in descriptions.
+     * @param getter       Getter used to read the property.
+     * @param value        Expected value.
+     * @return this
+     */
+    public BeanPropertyMatcher<T> withInt(final String propertyName,
+                                          final ToIntFunction<? super T> getter,
+                                          final int value) {
+        return addPropertyMatcher(PrimitivePropertyMatcher.ofInt(expectedClass, propertyName, getter,
+                actual -> actual == value,
+                () -> Matchers.equalTo(value)));
+    }
 
-        return this;
+    /**
+     * Adds a matcher for an int property which must be within the given range (both inclusive).
+     *
+     * @param propertyName Name of the property used in descriptions.
+     * @param getter       Getter used to read the property.
+     * @param min          Lowest expected value.
+     * @param max          Highest expected value.
+     * @return this
+     */
+    public BeanPropertyMatcher<T> withIntBetween(final String propertyName,
+                                                 final ToIntFunction<? super T> getter,
+                                                 final int min,
+                                                 final int max) {
+        return addPropertyMatcher(PrimitivePropertyMatcher.ofInt(expectedClass, propertyName, getter,
+                actual -> min <= actual && actual <= max,
+                () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
     }
 
-    @Override
-    protected void describeMismatchSafely(final T item, final Description mismatchDescription) {
-        var missmatchDescriptionAllreadyAdded = false;
+    /**
+     * Adds a matcher for a long property which is compared without boxing.
+     *
+     * @param propertyName Name of the property used in descriptions.
+     * @param getter       Getter used to read the property.
+     * @param value        Expected value.
+     * @return this
+     */
+    public BeanPropertyMatcher<T> withLong(final String propertyName,
+                                           final ToLongFunction<? super T> getter,
+                                           final long value) {
+        return addPropertyMatcher(PrimitivePropertyMatcher.ofLong(expectedClass, propertyName, getter,
+                actual -> actual == value,
+                () -> Matchers.equalTo(value)));
+    }
 
-        if (!instanceOfMatcher.matches(item)) {
-            mismatchDescription.appendText("Is an instance of " + item.getClass());
-            missmatchDescriptionAllreadyAdded = true;
-        }
+    /**
+     * Adds a matcher for a long property which must be within the given range (both inclusive).
+     *
+     * @param propertyName Name of the property used in descriptions.
+     * @param getter       Getter used to read the property.
+     * @param min          Lowest expected value.
+     * @param max          Highest expected value.
+     * @return this
+     */
+    public BeanPropertyMatcher<T> withLongBetween(final String propertyName,
+                                                  final ToLongFunction<? super T> getter,
+                                                  final long min,
+                                                  final long max) {
+        return addPropertyMatcher(PrimitivePropertyMatcher.ofLong(expectedClass, propertyName, getter,
+                actual -> min <= actual && actual <= max,
+                () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    /**
+     * Adds a matcher for a double property which is compared without boxing. Values are compared like
+     * {@link Double#equals(Object)} does, so <code>NaN</code> matches <code>NaN</code>.
+     *
+     * @param propertyName Name of the property used in descriptions.
+     * @param getter       Getter used to read the property.
+     * @param value        Expected value.
+     * @return this
+     */
+    public BeanPropertyMatcher<T> withDouble(final String propertyName,
+                                             final ToDoubleFunction<? super T> getter,
+                                             final double value) {
+        return addPropertyMatcher(PrimitivePropertyMatcher.ofDouble(expectedClass, propertyName, getter,
+                actual -> Double.compare(actual, value) == 0,
+                () -> Matchers.equalTo(value)));
+    }
+
+    /**
+     * Adds a matcher for a double property which must be within the given range (both inclusive).
+     *
+     * @param propertyName Name of the property used in descriptions.
+     * @param getter       Getter used to read the property.
+     * @param min          Lowest expected value.
+     * @param max          Highest expected value.
+     * @return this
+     */
+    public BeanPropertyMatcher<T> withDoubleBetween(final String propertyName,
+                                                    final ToDoubleFunction<? super T> getter,
+                                                    final double min,
+                                                    final double max) {
+        return addPropertyMatcher(PrimitivePropertyMatcher.ofDouble(expectedClass, propertyName, getter,
+                actual -> min <= actual && actual <= max,
+                () -> Matchers.allOf(Matchers.greaterThanOrEqualTo(min), Matchers.lessThanOrEqualTo(max))));
+    }
+
+    /**
+     * Adds a matcher for a double property which must not differ from the given value by more than the given error.
+     *
+     * @param propertyName Name of the property used in descriptions.
+     * @param getter       Getter used to read the property.
+     * @param value        Expected value.
+     * @param error        Maximum difference between the expected and the actual value.
+     * @return this
+     */
+    public BeanPropertyMatcher<T> withDoubleCloseTo(final String propertyName,
+                                                    final ToDoubleFunction<? super T> getter,
+                                                    final double value,
+                                                    final double error) {
+        return addPropertyMatcher(PrimitivePropertyMatcher.ofDouble(expectedClass, propertyName, getter,
+                actual -> Math.abs(actual - value) <= error,
+                () -> Matchers.closeTo(value, error)));
+    }
+
+    /**
+     * Adds a matcher for a boolean property which is compared without boxing.
+     *
+     * @param propertyName Name of the property used in descriptions.
+     * @param getter       Getter used to read the property.
+     * @param value        Expected value.
+     * @return this
+     */
+    public BeanPropertyMatcher<T> withBoolean(final String propertyName,
+                                              final Predicate<? super T> getter,
+                                              final boolean value) {
+        return addPropertyMatcher(PrimitivePropertyMatcher.ofBoolean(expectedClass, propertyName, getter, value,
+                () -> Matchers.equalTo(value)));
+    }
+
+    /**
+     * Adds a matcher for a property of the property table.
+     *
+     * @param slot    Slot of the property in the property table.
+     * @param matcher Matcher for the value of the property.
+     * @return this
+     */
+    public BeanPropertyMatcher<T> with(final int slot, final Matcher<?> matcher) {
+        final BeanProperty<T> property = propertyAt(slot);
+        return with(property.getName(), property.getGetter(), matcher);
+    }
+
+    /**
+     * Adds a matcher for an int property of the property table which is compared without boxing.
+     *
+     * @param slot  Slot of the property in the property table.
+     * @param value Expected value.
+     * @return this
+     */
+    public BeanPropertyMatcher<T> withInt(final int slot, final int value) {
+        final BeanProperty<T> property = propertyAt(slot);
+        return withInt(property.getName(), property.getPrimitiveGetter(int.class), value);
+    }
+
+    /**
+     * Adds a matcher for an int property of the property table which must be within the given range (both inclusive).
+     *
+     * @param slot Slot of the property in the property table.
+     * @param min  Lowest expected value.
+     * @param max  Highest expected value.
+     * @return this
+     */
+    public BeanPropertyMatcher<T> withIntBetween(final int slot, final int min, final int max) {
+        final BeanProperty<T> property = propertyAt(slot);
+        return withIntBetween(property.getName(), property.getPrimitiveGetter(int.class), min, max);
+    }
 
-        for (final Matcher<?> matcher : hasPropertyMatcher) {
-            if (!matcher.matches(item)) {
-                if (missmatchDescriptionAllreadyAdded) {
-                    mismatchDescription.appendText(" and ");
-                }
+    /**
+     * Adds a matcher for a long property of the property table which is compared without boxing.
+     *
+     * @param slot  Slot of the property in the property table.
+     * @param value Expected value.
+     * @return this
+     */
+    public BeanPropertyMatcher<T> withLong(final int slot, final long value) {
+        final BeanProperty<T> property = propertyAt(slot);
+        return withLong(property.getName(), property.getPrimitiveGetter(long.class), value);
+    }
 
-                matcher.describeMismatch(item, mismatchDescription);
-                missmatchDescriptionAllreadyAdded = true;
-            }
+    /**
+     * Adds a matcher for a long property of the property table which must be within the given range (both
+     * inclusive).
+     *
+     * @param slot Slot of the property in the property table.
+     * @param min  Lowest expected value.
+     * @param max  Highest expected value.
+     * @return this
+     */
+    public BeanPropertyMatcher<T> withLongBetween(final int slot, final long min, final long max) {
+        final BeanProperty<T> property = propertyAt(slot);
+        return withLongBetween(property.getName(), property.getPrimitiveGetter(long.class), min, max);
+    }
+
+    /**
+     * Adds a matcher for a double property of the property table which is compared without boxing.
+     *
+     * @param slot  Slot of the property in the property table.
+     * @param value Expected value.
+     * @return this
+     */
+    public BeanPropertyMatcher<T> withDouble(final int slot, final double value) {
+        final BeanProperty<T> property = propertyAt(slot);
+        return withDouble(property.getName(), property.getPrimitiveGetter(double.class), value);
+    }
+
+    /**
+     * Adds a matcher for a double property of the property table which must be within the given range (both
+     * inclusive).
+     *
+     * @param slot Slot of the property in the property table.
+     * @param min  Lowest expected value.
+     * @param max  Highest expected value.
+     * @return this
+     */
+    public BeanPropertyMatcher<T> withDoubleBetween(final int slot, final double min, final double max) {
+        final BeanProperty<T> property = propertyAt(slot);
+        return withDoubleBetween(property.getName(), property.getPrimitiveGetter(double.class), min, max);
+    }
+
+    /**
+     * Adds a matcher for a double property of the property table which must not differ from the given value by more
+     * than the given error.
+     *
+     * @param slot  Slot of the property in the property table.
+     * @param value Expected value.
+     * @param error Maximum difference between the expected and the actual value.
+     * @return this
+     */
+    public BeanPropertyMatcher<T> withDoubleCloseTo(final int slot, final double value, final double error) {
+        final BeanProperty<T> property = propertyAt(slot);
+        return withDoubleCloseTo(property.getName(), property.getPrimitiveGetter(double.class), value, error);
+    }
+
+    /**
+     * Adds a matcher for a boolean property of the property table which is compared without boxing.
+     *
+     * @param slot  Slot of the property in the property table.
+     * @param value Expected value.
+     * @return this
+     */
+    public BeanPropertyMatcher<T> withBoolean(final int slot, final boolean value) {
+        final BeanProperty<T> property = propertyAt(slot);
+        return withBoolean(property.getName(), property.getPrimitiveGetter(boolean.class), value);
+    }
+
+    public BeanPropertyMatcher<T> with(final String propertyName) {
+        return addPropertyMatcher(new PropertyExistenceMatcher<>(propertyName));
+    }
+
+    private BeanProperty<T> propertyAt(final int slot) {
+        if (propertyTable == null) {
+            throw new IllegalStateException("Properties can only be added by slot to matchers with a property table");
         }
+        return propertyTable.get(slot);
+    }
+
+    private BeanPropertyMatcher<T> addPropertyMatcher(final PropertyMatcher<?> propertyMatcher) {
+        hasPropertyMatcher.add(propertyMatcher);
+        frozenMatcher = null;
+
+        return this;
+    }
+
+    @Override
+    protected void describeMismatchSafely(final T item, final Description mismatchDescription) {
+        freeze().describeMismatch(item, mismatchDescription);
     }
 }
@@ -0,0 +1,157 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import java.lang.reflect.Array;
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import org.hamcrest.BaseDescription;
+import org.hamcrest.Description;
+import org.hamcrest.SelfDescribing;
+
+/**
+ * Description which keeps only its first characters. Once it is full, values and self describing objects are not
+ * rendered anymore at all. Character sequences, arrays and collections rendered by the <code>toString()</code> of
+ * {@link AbstractCollection} are streamed into the remaining space and rendering stops as soon as it is full, so they
+ * are never rendered as a whole. Other values (including collections with their own <code>toString()</code>) are
+ * rendered by their <code>toString()</code> as long as the description is not full yet.
+ */
+final class BoundedDescription extends BaseDescription {
+
+    private static final String TRUNCATION_MARK = "...";
+
+    private final StringBuilder text = new StringBuilder();
+    private final int maxLength;
+    private boolean truncated;
+
+    BoundedDescription(final int maxLength) {
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Values are rendered the same way as by {@link BaseDescription}.
+     */
+    @Override
+    public Description appendValue(final Object value) {
+        if (isFull()) {
+            truncated = true;
+        } else if (value != null && value.getClass().isArray()) {
+            appendArray(value);
+        } else if (value instanceof Collection || (value instanceof CharSequence && !(value instanceof String))) {
+            append('<');
+            appendString(value);
+            append('>');
+        } else {
+            super.appendValue(value);
+        }
+        return this;
+    }
+
+    @Override
+    public Description appendDescriptionOf(final SelfDescribing value) {
+        if (isFull()) {
+            truncated = true;
+            return this;
+        }
+        return super.appendDescriptionOf(value);
+    }
+
+    private void appendArray(final Object array) {
+        append('[');
+        final int length = Array.getLength(array);
+        for (int i = 0; i < length; i++) {
+            if (isFull()) {
+                truncated = true;
+                return;
+            }
+            if (i > 0) {
+                append(", ");
+            }
+            appendValue(Array.get(array, i));
+        }
+        append(']');
+    }
+
+    /**
+     * Appends the same characters as <code>String.valueOf(value)</code> would return.
+     */
+    private void appendString(final Object value) {
+        if (value instanceof CharSequence) {
+            appendCharSequence((CharSequence) value);
+        } else if (value instanceof Collection && hasToStringOfAbstractCollection(value)) {
+            appendCollection((Collection<?>) value);
+        } else {
+            append(String.valueOf(value));
+        }
+    }
+
+    private void appendCharSequence(final CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (isFull()) {
+                truncated = true;
+                return;
+            }
+            append(value.charAt(i));
+        }
+    }
+
+    private static boolean hasToStringOfAbstractCollection(final Object collection) {
+        try {
+            return collection.getClass().getMethod("toString").getDeclaringClass() == AbstractCollection.class;
+        } catch (final NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Collections are rendered like {@link AbstractCollection#toString()} does.
+     */
+    private void appendCollection(final Collection<?> collection) {
+        append('[');
+        final Iterator<?> iterator = collection.iterator();
+        while (iterator.hasNext()) {
+            if (isFull()) {
+                truncated = true;
+                return;
+            }
+            final Object element = iterator.next();
+            if (element == collection) {
+                append("(this Collection)");
+            } else {
+                appendString(element);
+            }
+            if (iterator.hasNext()) {
+                append(", ");
+            }
+        }
+        append(']');
+    }
+
+    @Override
+    protected void append(final String str) {
+        final int remaining = maxLength - text.length();
+        if (str.length() <= remaining) {
+            text.append(str);
+        } else {
+            text.append(str, 0, remaining);
+            truncated = true;
+        }
+    }
+
+    @Override
+    protected void append(final char c) {
+        if (isFull()) {
+            truncated = true;
+        } else {
+            text.append(c);
+        }
+    }
+
+    private boolean isFull() {
+        return text.length() >= maxLength;
+    }
+
+    @Override
+    public String toString() {
+        return truncated ? text + TRUNCATION_MARK : text.toString();
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import java.util.Arrays;
+import java.util.List;
+import org.hamcrest.Description;
+import org.hamcrest.SelfDescribing;
+
+/**
+ * Result of matching many items at once. Mismatches are described only on demand, so items which match do not cause
+ * any description work at all.
+ */
+public final class BulkMatchResult implements SelfDescribing {
+
+    private final int checkedItemCount;
+    private final int[] failingIndices;
+    private final List<SelfDescribing> mismatches;
+
+    BulkMatchResult(final int checkedItemCount, final int[] failingIndices, final List<SelfDescribing> mismatches) {
+        this.checkedItemCount = checkedItemCount;
+        this.failingIndices = failingIndices;
+        this.mismatches = mismatches;
+    }
+
+    /**
+     * @return <code>true</code> if all checked items match.
+     */
+    public boolean isMatching() {
+        return failingIndices.length == 0;
+    }
+
+    /**
+     * @return Number of items checked before the maximum number of failures was reached (or all of them).
+     */
+    public int getCheckedItemCount() {
+        return checkedItemCount;
+    }
+
+    /**
+     * @return Indices of the items which do not match in ascending order.
+     */
+    public int[] getFailingIndices() {
+        return Arrays.copyOf(failingIndices, failingIndices.length);
+    }
+
+    /**
+     * Describes the mismatches of all failing items.
+     *
+     * @param description Description to append to.
+     */
+    @Override
+    public void describeTo(final Description description) {
+        for (int i = 0; i < failingIndices.length; i++) {
+            if (i > 0) {
+                description.appendText(", ");
+            }
+            description.appendText("item " + failingIndices[i] + ": ");
+            mismatches.get(i).describeTo(description);
+        }
+    }
+}
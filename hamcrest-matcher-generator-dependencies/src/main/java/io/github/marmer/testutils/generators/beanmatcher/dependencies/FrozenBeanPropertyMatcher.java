@@ -0,0 +1,370 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.Matchers;
+import org.hamcrest.SelfDescribing;
+import org.hamcrest.TypeSafeMatcher;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Immutable snapshot of a {@link BeanPropertyMatcher}. It can be shared by any number of threads (e.g. as a static
+ * constant) and is not affected by properties added to the matcher it was created from afterwards.
+ *
+ * @param <T> Type of the bean.
+ */
+public final class FrozenBeanPropertyMatcher<T> extends TypeSafeMatcher<T> {
+
+    private final Class<? super T> expectedClass;
+    private final Matcher<?> instanceOfMatcher;
+    private final PropertyMatcher<?>[] propertyMatchers;
+    private final List<Matcher<?>> describedMatchers;
+    private final int maxDescriptionLength;
+    private final AtomicReference<LastMismatch> lastMismatch = new AtomicReference<>();
+
+    FrozenBeanPropertyMatcher(final Class<? super T> expectedClass,
+                              final List<PropertyMatcher<?>> propertyMatchers,
+                              final int maxDescriptionLength) {
+        this.expectedClass = expectedClass;
+        this.maxDescriptionLength = maxDescriptionLength;
+        this.instanceOfMatcher = Matchers.instanceOf(expectedClass);
+        this.propertyMatchers = propertyMatchers.toArray(new PropertyMatcher<?>[0]);
+
+        final List<Matcher<?>> matchers = new ArrayList<>();
+        matchers.add(instanceOfMatcher);
+        matchers.addAll(propertyMatchers);
+        this.describedMatchers = unmodifiableList(matchers);
+    }
+
+    @Override
+    public void describeTo(final Description description) {
+        describeBounded(description, bounded -> bounded.appendList("(", " and ", ")", describedMatchers));
+    }
+
+    /**
+     * Everything is described into a {@link BoundedDescription} first if the length of descriptions is limited.
+     */
+    private void describeBounded(final Description description, final SelfDescribing describable) {
+        if (maxDescriptionLength == 0) {
+            describable.describeTo(description);
+            return;
+        }
+
+        final BoundedDescription boundedDescription = new BoundedDescription(maxDescriptionLength);
+        describable.describeTo(boundedDescription);
+        description.appendText(boundedDescription.toString());
+    }
+
+    /**
+     * Stops at the first property which does not match and records its mismatch for the item. A following mismatch
+     * description of the same item reuses it and only reads the properties which have not been checked yet, so no
+     * property is read twice. The record is immutable and replaced as a whole, so concurrent matches never see a
+     * partial one. It refers to the item only weakly and is dropped once it has been described, so a matcher kept in
+     * a constant does not keep the last failing item alive.
+     */
+    @Override
+    protected boolean matchesSafely(final T item) {
+        final RecordedMismatch mismatch = check(item);
+        if (mismatch != null) {
+            lastMismatch.set(new LastMismatch(item, mismatch));
+            return false;
+        }
+        return true;
+    }
+
+    private RecordedMismatch check(final Object item) {
+        if (!expectedClass.isInstance(item)) {
+            return new RecordedMismatch(-1, null);
+        }
+
+        for (int i = 0; i < propertyMatchers.length; i++) {
+            final SelfDescribing mismatch = propertyMatchers[i].check(item);
+            if (mismatch != null) {
+                return new RecordedMismatch(i, mismatch);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    protected void describeMismatchSafely(final T item, final Description mismatchDescription) {
+        final LastMismatch last = lastMismatch.get();
+        if (last != null && last.item.get() == item) {
+            lastMismatch.compareAndSet(last, null);
+            describeBounded(mismatchDescription, bounded -> describeRecordedMismatch(item, last.mismatch, bounded));
+        } else {
+            describeBounded(mismatchDescription, bounded -> describePropertyMismatches(item, null, bounded));
+        }
+    }
+
+    private void describeRecordedMismatch(final Object item,
+                                          final RecordedMismatch recordedMismatch,
+                                          final Description mismatchDescription) {
+        if (item == null) {
+            describeMismatch(null, mismatchDescription);
+        } else {
+            describePropertyMismatches(item, recordedMismatch, mismatchDescription);
+        }
+    }
+
+    private void describePropertyMismatches(final Object item,
+                                            final RecordedMismatch recordedMismatch,
+                                            final Description mismatchDescription) {
+        var missmatchDescriptionAllreadyAdded = false;
+        var firstUncheckedProperty = 0;
+
+        if (recordedMismatch != null) {
+            if (recordedMismatch.propertyIndex < 0) {
+                mismatchDescription.appendText("Is an instance of ").appendText(item.getClass().toString());
+            } else {
+                recordedMismatch.mismatch.describeTo(mismatchDescription);
+                firstUncheckedProperty = recordedMismatch.propertyIndex + 1;
+            }
+            missmatchDescriptionAllreadyAdded = true;
+        } else if (!instanceOfMatcher.matches(item)) {
+            mismatchDescription.appendText("Is an instance of ").appendText(item.getClass().toString());
+            missmatchDescriptionAllreadyAdded = true;
+        }
+
+        for (int i = firstUncheckedProperty; i < propertyMatchers.length; i++) {
+            final SelfDescribing mismatch = propertyMatchers[i].check(item);
+            if (mismatch != null) {
+                if (missmatchDescriptionAllreadyAdded) {
+                    mismatchDescription.appendText(" and ");
+                }
+
+                mismatch.describeTo(mismatchDescription);
+                missmatchDescriptionAllreadyAdded = true;
+            }
+        }
+    }
+
+    /**
+     * Matches all items in one pass and stops as soon as the given number of items does not match. Nothing is
+     * described for matching items, and the mismatches of the failing ones are described only on demand.
+     *
+     * @param items       Items to match.
+     * @param maxFailures Maximum number of failing items to collect. Use 1 to stop at the first one.
+     * @return Result with the indices of the failing items.
+     * @throws IllegalArgumentException if maxFailures is not positive.
+     */
+    public BulkMatchResult matchAll(final Iterable<? extends T> items, final int maxFailures) {
+        requirePositive(maxFailures);
+
+        final Failures failures = new Failures();
+        var index = 0;
+        for (final T item : items) {
+            final RecordedMismatch mismatch = check(item);
+            if (mismatch != null) {
+                failures.add(index, item, mismatch);
+                if (failures.size() == maxFailures) {
+                    break;
+                }
+            }
+            index++;
+        }
+        return toResult(failures, index, maxFailures);
+    }
+
+    /**
+     * Matches all items in one pass, the same way as {@link #matchAll(Iterable, int)} does.
+     *
+     * @param items       Items to match.
+     * @param maxFailures Maximum number of failing items to collect. Use 1 to stop at the first one.
+     * @return Result with the indices of the failing items.
+     * @throws IllegalArgumentException if maxFailures is not positive.
+     */
+    public BulkMatchResult matchAll(final T[] items, final int maxFailures) {
+        return matchAll(Arrays.asList(items), maxFailures);
+    }
+
+    /**
+     * Matches all items in parallel using the common {@link ForkJoinPool}. See
+     * {@link #matchAllInParallel(List, int, ForkJoinPool)}.
+     *
+     * @param items       Items to match.
+     * @param maxFailures Maximum number of failing items to collect.
+     * @return Result with the indices of the failing items.
+     * @throws IllegalArgumentException if maxFailures is not positive.
+     */
+    public BulkMatchResult matchAllInParallel(final List<? extends T> items, final int maxFailures) {
+        return matchAllInParallel(items, maxFailures, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Matches all items in parallel by splitting them into chunks which are matched by the given pool. Failures of all
+     * chunks are merged in the original order of the items, so the result is the same as the one of
+     * {@link #matchAll(Iterable, int)}. Only worth it for very large lists.
+     *
+     * @param items       Items to match.
+     * @param maxFailures Maximum number of failing items to collect.
+     * @param pool        Pool used to match the chunks.
+     * @return Result with the indices of the failing items.
+     * @throws IllegalArgumentException if maxFailures is not positive.
+     */
+    public BulkMatchResult matchAllInParallel(final List<? extends T> items,
+                                              final int maxFailures,
+                                              final ForkJoinPool pool) {
+        requirePositive(maxFailures);
+
+        final List<? extends T> randomAccessItems = items instanceof RandomAccess ? items : new ArrayList<>(items);
+        final AtomicInteger cutoff = new AtomicInteger(randomAccessItems.size());
+        final Failures failures =
+                pool.invoke(new ParallelMatch(randomAccessItems, 0, randomAccessItems.size(), maxFailures, cutoff));
+        return toResult(failures, randomAccessItems.size(), maxFailures);
+    }
+
+    private static void requirePositive(final int maxFailures) {
+        if (maxFailures < 1) {
+            throw new IllegalArgumentException("maxFailures must be positive but was " + maxFailures);
+        }
+    }
+
+    private BulkMatchResult toResult(final Failures failures, final int itemCount, final int maxFailures) {
+        final List<SelfDescribing> mismatches = new ArrayList<>(failures.size());
+        for (int i = 0; i < failures.size(); i++) {
+            final Object item = failures.items.get(i);
+            final RecordedMismatch mismatch = failures.mismatches.get(i);
+            mismatches.add(mismatchDescription -> describeBounded(mismatchDescription,
+                    bounded -> describeRecordedMismatch(item, mismatch, bounded)));
+        }
+
+        final int checkedItemCount = failures.size() == maxFailures ? failures.lastIndex() + 1 : itemCount;
+        return new BulkMatchResult(checkedItemCount, failures.indices(), mismatches);
+    }
+
+    /**
+     * Matches a range of items. Each range collects at most maxFailures failures on its own, because failures behind
+     * those can never be part of the merged result. For the same reason a range which collected maxFailures failures
+     * lowers the cutoff shared by all ranges to the index behind its last failure, and items behind the cutoff are not
+     * matched anymore.
+     */
+    private final class ParallelMatch extends RecursiveTask<Failures> {
+        private static final int CHUNK_SIZE = 4096;
+
+        private final List<? extends T> items;
+        private final int from;
+        private final int to;
+        private final int maxFailures;
+        private final AtomicInteger cutoff;
+
+        private ParallelMatch(final List<? extends T> items,
+                              final int from,
+                              final int to,
+                              final int maxFailures,
+                              final AtomicInteger cutoff) {
+            this.items = items;
+            this.from = from;
+            this.to = to;
+            this.maxFailures = maxFailures;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected Failures compute() {
+            if (from >= cutoff.get()) {
+                return new Failures();
+            }
+            if (to - from <= CHUNK_SIZE) {
+                return matchRange();
+            }
+
+            final int middle = (from + to) >>> 1;
+            final ParallelMatch right = new ParallelMatch(items, middle, to, maxFailures, cutoff);
+            right.fork();
+            final Failures leftFailures = new ParallelMatch(items, from, middle, maxFailures, cutoff).compute();
+            final Failures rightFailures = right.join();
+            return leftFailures.append(rightFailures, maxFailures);
+        }
+
+        private Failures matchRange() {
+            final Failures failures = new Failures();
+            for (int i = from; i < to && i < cutoff.get(); i++) {
+                final T item = items.get(i);
+                final RecordedMismatch mismatch = check(item);
+                if (mismatch != null) {
+                    failures.add(i, item, mismatch);
+                    if (failures.size() == maxFailures) {
+                        cutoff.accumulateAndGet(i + 1, Math::min);
+                        break;
+                    }
+                }
+            }
+            return failures;
+        }
+    }
+
+    /**
+     * Failing items in ascending order of their indices.
+     */
+    private static final class Failures {
+        private int[] indices = new int[16];
+        private final List<Object> items = new ArrayList<>();
+        private final List<RecordedMismatch> mismatches = new ArrayList<>();
+
+        private void add(final int index, final Object item, final RecordedMismatch mismatch) {
+            if (mismatches.size() == indices.length) {
+                indices = Arrays.copyOf(indices, indices.length * 2);
+            }
+            indices[mismatches.size()] = index;
+            items.add(item);
+            mismatches.add(mismatch);
+        }
+
+        private Failures append(final Failures following, final int maxFailures) {
+            for (int i = 0; i < following.size() && size() < maxFailures; i++) {
+                add(following.indices[i], following.items.get(i), following.mismatches.get(i));
+            }
+            return this;
+        }
+
+        private int size() {
+            return mismatches.size();
+        }
+
+        private int lastIndex() {
+            return indices[size() - 1];
+        }
+
+        private int[] indices() {
+            return Arrays.copyOf(indices, size());
+        }
+    }
+
+    /**
+     * Outcome of a failed match. Properties before the failing one are known to match, properties behind it have not
+     * been read yet.
+     */
+    private static final class RecordedMismatch {
+        private final int propertyIndex;
+        private final SelfDescribing mismatch;
+
+        private RecordedMismatch(final int propertyIndex, final SelfDescribing mismatch) {
+            this.propertyIndex = propertyIndex;
+            this.mismatch = mismatch;
+        }
+    }
+
+    /**
+     * Mismatch of the last failed match together with the item it was recorded for.
+     */
+    private static final class LastMismatch {
+        private final WeakReference<Object> item;
+        private final RecordedMismatch mismatch;
+
+        private LastMismatch(final Object item, final RecordedMismatch mismatch) {
+            this.item = new WeakReference<>(item);
+            this.mismatch = mismatch;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeMatcher;
+
+/**
+ * Base class of all generated matchers. Everything which does not depend on the properties of the matched type lives
+ * here, so generated matchers only contain their property methods and property metadata. This keeps the bytecode of
+ * each generated matcher small and the shared methods are loaded and compiled by the JIT only once.
+ *
+ * @param <T> Type of the bean.
+ * @param <M> Type of the generated matcher itself, returned by its fluent methods.
+ */
+public abstract class GeneratedBeanMatcher<T, M extends GeneratedBeanMatcher<T, M>> extends TypeSafeMatcher<T> {
+
+    /**
+     * Matcher the properties are added to by the generated property methods.
+     */
+    protected final BeanPropertyMatcher<T> beanPropertyMatcher;
+
+    /**
+     * @param expectedClass Type of the bean, whose properties are added by their names.
+     */
+    protected GeneratedBeanMatcher(final Class<? super T> expectedClass) {
+        super(expectedClass);
+        beanPropertyMatcher = new BeanPropertyMatcher<>(expectedClass);
+    }
+
+    /**
+     * @param propertyTable Properties of the bean, which are added by their slots.
+     */
+    protected GeneratedBeanMatcher(final PropertyTable<T> propertyTable) {
+        super(propertyTable.getBeanType());
+        beanPropertyMatcher = new BeanPropertyMatcher<>(propertyTable);
+    }
+
+    @Override
+    public void describeTo(final Description description) {
+        beanPropertyMatcher.describeTo(description);
+    }
+
+    @Override
+    protected boolean matchesSafely(final T item) {
+        return beanPropertyMatcher.matches(item);
+    }
+
+    @Override
+    protected void describeMismatchSafely(final T item, final Description description) {
+        beanPropertyMatcher.describeMismatch(item, description);
+    }
+
+    /**
+     * See {@link BeanPropertyMatcher#freeze()}.
+     *
+     * @return Snapshot of this matcher with all properties added so far.
+     */
+    public FrozenBeanPropertyMatcher<T> freeze() {
+        return beanPropertyMatcher.freeze();
+    }
+
+    /**
+     * See {@link FrozenBeanPropertyMatcher#matchAll(Iterable, int)}.
+     *
+     * @param items       Items to match.
+     * @param maxFailures Maximum number of failing items to collect. Use 1 to stop at the first one.
+     * @return Result with the indices of the failing items.
+     */
+    public BulkMatchResult matchAll(final Iterable<? extends T> items, final int maxFailures) {
+        return beanPropertyMatcher.matchAll(items, maxFailures);
+    }
+
+    /**
+     * See {@link FrozenBeanPropertyMatcher#matchAll(Object[], int)}.
+     *
+     * @param items       Items to match.
+     * @param maxFailures Maximum number of failing items to collect. Use 1 to stop at the first one.
+     * @return Result with the indices of the failing items.
+     */
+    public BulkMatchResult matchAll(final T[] items, final int maxFailures) {
+        return beanPropertyMatcher.matchAll(items, maxFailures);
+    }
+
+    /**
+     * See {@link BeanPropertyMatcher#limitDescriptionLength(int)}.
+     *
+     * @param maxLength Maximum number of characters of a description or 0 for no limit (the default).
+     * @return this
+     */
+    public M limitDescriptionLength(final int maxLength) {
+        beanPropertyMatcher.limitDescriptionLength(maxLength);
+        return self();
+    }
+
+    @SuppressWarnings("unchecked")
+    private M self() {
+        return (M) this;
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import java.util.function.Function;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.SelfDescribing;
+
+/**
+ * Matcher for a single property which is read by a compiled getter instead of reflection. Descriptions are the same as
+ * those of Hamcrest's <code>hasProperty</code>.
+ *
+ * @param <T> Type of the bean.
+ */
+class GetterPropertyMatcher<T> extends PropertyMatcher<T> {
+
+    private final String propertyName;
+    private final Function<? super T, ?> getter;
+    private final Matcher<?> valueMatcher;
+
+    GetterPropertyMatcher(final Class<?> beanType,
+                          final String propertyName,
+                          final Function<? super T, ?> getter,
+                          final Matcher<?> valueMatcher) {
+        super(beanType);
+        this.propertyName = propertyName;
+        this.getter = getter;
+        this.valueMatcher = valueMatcher;
+    }
+
+    @Override
+    SelfDescribing checkSafely(final T item) {
+        final Object value = getter.apply(item);
+        if (valueMatcher.matches(value)) {
+            return null;
+        }
+        return mismatchDescription -> {
+            appendPropertyPrefix(mismatchDescription, propertyName);
+            valueMatcher.describeMismatch(value, mismatchDescription);
+        };
+    }
+
+    @Override
+    public void describeTo(final Description description) {
+        description.appendText("hasProperty(")
+                .appendValue(propertyName)
+                .appendText(", ")
+                .appendDescriptionOf(valueMatcher)
+                .appendText(")");
+    }
+}
@@ -5,14 +5,22 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+/**
+ * Configures for which types matchers are generated. The annotation is kept in class files, so incremental builds (e.g.
+ * Gradle) are able to process configurations again without recompiling them.
+ */
 @Target(ElementType.TYPE)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface MatcherConfiguration {
 
     /**
-     * Package names and/or full qualified class names to scan for classes to generate matchers for.
+     * Package names and/or full qualified class names to scan for classes to generate matchers for. Package names may
+     * contain wildcards: <code>*</code> matches exactly one segment of a package name and <code>**</code> any number of
+     * segments, e.g. <code>com.acme.model.**</code> for a package and all of its subpackages or
+     * <code>com.acme.*.dto</code>. Wildcards only match packages of compiled sources and packages javac already knows
+     * about, so packages only located in the classpath have to be configured without wildcards.
      *
-     * @return Package names and full qualified class names
+     * @return Package names, package patterns and full qualified class names
      */
     String[] value();
 
@@ -26,7 +34,7 @@ public @interface MatcherConfiguration {
     /**
      * Configuration of how to generate something.
      */
-    @Retention(RetentionPolicy.SOURCE)
+    @Retention(RetentionPolicy.CLASS)
     @interface GenerationConfiguration {
 
         /**
@@ -36,10 +44,17 @@ public @interface MatcherConfiguration {
          */
         PackageConfiguration packageConfig() default @PackageConfiguration("");
 
+        /**
+         * How generated matchers read the properties of the matched beans.
+         *
+         * @return How generated matchers read the properties of the matched beans.
+         */
+        PropertyAccess propertyAccess() default PropertyAccess.REFLECTION;
+
         /**
          * Configuration of how packages are created for Matchers.
          */
-        @Retention(RetentionPolicy.SOURCE)
+        @Retention(RetentionPolicy.CLASS)
         @interface PackageConfiguration {
 
             /**
@@ -54,5 +69,20 @@ public @interface MatcherConfiguration {
              */
             String value();
         }
+
+        /**
+         * Ways generated matchers are able to read properties.
+         */
+        enum PropertyAccess {
+            /**
+             * Properties are looked up by name at test time, the same way as Hamcrest's <code>hasProperty</code> does.
+             */
+            REFLECTION,
+            /**
+             * Properties are read by compiled getter calls (method references), so no reflection is involved at test
+             * time. Requires the getters to be accessible from the package the matchers are generated in.
+             */
+            GETTER
+        }
     }
 }
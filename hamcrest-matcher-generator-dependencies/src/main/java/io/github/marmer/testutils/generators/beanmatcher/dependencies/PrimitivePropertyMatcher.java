@@ -0,0 +1,105 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.SelfDescribing;
+
+/**
+ * Matcher for a primitive property which is read and compared without boxing. The value is boxed only if a mismatch
+ * is described. Descriptions are delegated to an equivalent Hamcrest matcher which is created on demand.
+ *
+ * @param <T> Type of the bean.
+ */
+abstract class PrimitivePropertyMatcher<T> extends PropertyMatcher<T> {
+
+    private final String propertyName;
+    private final Supplier<Matcher<?>> describingMatcher;
+
+    private PrimitivePropertyMatcher(final Class<?> beanType,
+                                     final String propertyName,
+                                     final Supplier<Matcher<?>> describingMatcher) {
+        super(beanType);
+        this.propertyName = propertyName;
+        this.describingMatcher = describingMatcher;
+    }
+
+    static <T> PrimitivePropertyMatcher<T> ofInt(final Class<?> beanType,
+                                                 final String propertyName,
+                                                 final ToIntFunction<? super T> getter,
+                                                 final IntPredicate condition,
+                                                 final Supplier<Matcher<?>> describingMatcher) {
+        return new PrimitivePropertyMatcher<>(beanType, propertyName, describingMatcher) {
+            @Override
+            SelfDescribing checkSafely(final T item) {
+                final int value = getter.applyAsInt(item);
+                return condition.test(value) ? null : mismatchOf(value);
+            }
+        };
+    }
+
+    static <T> PrimitivePropertyMatcher<T> ofLong(final Class<?> beanType,
+                                                  final String propertyName,
+                                                  final ToLongFunction<? super T> getter,
+                                                  final LongPredicate condition,
+                                                  final Supplier<Matcher<?>> describingMatcher) {
+        return new PrimitivePropertyMatcher<>(beanType, propertyName, describingMatcher) {
+            @Override
+            SelfDescribing checkSafely(final T item) {
+                final long value = getter.applyAsLong(item);
+                return condition.test(value) ? null : mismatchOf(value);
+            }
+        };
+    }
+
+    static <T> PrimitivePropertyMatcher<T> ofDouble(final Class<?> beanType,
+                                                    final String propertyName,
+                                                    final ToDoubleFunction<? super T> getter,
+                                                    final DoublePredicate condition,
+                                                    final Supplier<Matcher<?>> describingMatcher) {
+        return new PrimitivePropertyMatcher<>(beanType, propertyName, describingMatcher) {
+            @Override
+            SelfDescribing checkSafely(final T item) {
+                final double value = getter.applyAsDouble(item);
+                return condition.test(value) ? null : mismatchOf(value);
+            }
+        };
+    }
+
+    static <T> PrimitivePropertyMatcher<T> ofBoolean(final Class<?> beanType,
+                                                     final String propertyName,
+                                                     final Predicate<? super T> getter,
+                                                     final boolean expectedValue,
+                                                     final Supplier<Matcher<?>> describingMatcher) {
+        return new PrimitivePropertyMatcher<>(beanType, propertyName, describingMatcher) {
+            @Override
+            SelfDescribing checkSafely(final T item) {
+                final boolean value = getter.test(item);
+                return value == expectedValue ? null : mismatchOf(value);
+            }
+        };
+    }
+
+    SelfDescribing mismatchOf(final Object value) {
+        return mismatchDescription -> {
+            appendPropertyPrefix(mismatchDescription, propertyName);
+            describingMatcher.get().describeMismatch(value, mismatchDescription);
+        };
+    }
+
+    @Override
+    public void describeTo(final Description description) {
+        description.appendText("hasProperty(")
+                .appendValue(propertyName)
+                .appendText(", ")
+                .appendDescriptionOf(describingMatcher.get())
+                .appendText(")");
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import org.hamcrest.Description;
+import org.hamcrest.SelfDescribing;
+
+/**
+ * Matcher for the existence of a property. Behaves like Hamcrest's <code>hasProperty</code> but introspects each bean
+ * type only once.
+ *
+ * @param <T> Type of the bean.
+ */
+class PropertyExistenceMatcher<T> extends PropertyMatcher<T> {
+
+    private final String propertyName;
+
+    PropertyExistenceMatcher(final String propertyName) {
+        super(Object.class);
+        this.propertyName = propertyName;
+    }
+
+    @Override
+    SelfDescribing checkSafely(final T item) {
+        if (hasProperty(item)) {
+            return null;
+        }
+        return mismatchDescription -> mismatchDescription.appendText("no ")
+                .appendValue(propertyName)
+                .appendText(" in ")
+                .appendValue(item);
+    }
+
+    private boolean hasProperty(final T item) {
+        try {
+            return PropertyReader.find(item.getClass(), propertyName) != null;
+        } catch (final IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void describeTo(final Description description) {
+        description.appendText("hasProperty(").appendValue(propertyName).appendText(")");
+    }
+}
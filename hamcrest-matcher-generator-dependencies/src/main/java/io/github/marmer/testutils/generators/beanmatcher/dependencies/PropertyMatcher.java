@@ -0,0 +1,61 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import org.hamcrest.Description;
+import org.hamcrest.SelfDescribing;
+import org.hamcrest.TypeSafeMatcher;
+
+/**
+ * Matcher for a single property of a bean which is able to record why an item does not match, so the mismatch can be
+ * described later without reading the property again.
+ *
+ * @param <T> Type of the bean.
+ */
+abstract class PropertyMatcher<T> extends TypeSafeMatcher<T> {
+
+    private final Class<?> expectedType;
+
+    PropertyMatcher(final Class<?> expectedType) {
+        super(expectedType);
+        this.expectedType = expectedType;
+    }
+
+    /**
+     * Checks whether the item matches.
+     *
+     * @param item Item to check.
+     * @return <code>null</code> if the item matches. Otherwise the mismatch, which describes itself without reading
+     * the property again.
+     */
+    @SuppressWarnings("unchecked")
+    final SelfDescribing check(final Object item) {
+        if (!expectedType.isInstance(item)) {
+            return mismatchDescription -> describeMismatch(item, mismatchDescription);
+        }
+        return checkSafely((T) item);
+    }
+
+    /**
+     * Checks whether an item of the expected type matches.
+     *
+     * @param item Item to check.
+     * @return <code>null</code> if the item matches, the mismatch otherwise.
+     */
+    abstract SelfDescribing checkSafely(T item);
+
+    @Override
+    protected final boolean matchesSafely(final T item) {
+        return checkSafely(item) == null;
+    }
+
+    @Override
+    protected final void describeMismatchSafely(final T item, final Description mismatchDescription) {
+        final SelfDescribing mismatch = checkSafely(item);
+        if (mismatch != null) {
+            mismatch.describeTo(mismatchDescription);
+        }
+    }
+
+    static Description appendPropertyPrefix(final Description mismatchDescription, final String propertyName) {
+        return mismatchDescription.appendText(" property '").appendText(propertyName).appendText("' ");
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * Reads a single property of beans of one type. The properties of a type are introspected only once and are shared by
+ * all matchers and threads afterwards.
+ */
+final class PropertyReader {
+
+    private static final MethodType READ_METHOD_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final ClassValue<Map<String, PropertyReader>> READERS = new ClassValue<>() {
+        @Override
+        protected Map<String, PropertyReader> computeValue(final Class<?> type) {
+            return introspect(type);
+        }
+    };
+
+    private final Method readMethod;
+    private final MethodHandle readHandle;
+
+    private PropertyReader(final Method readMethod, final MethodHandle readHandle) {
+        this.readMethod = readMethod;
+        this.readHandle = readHandle;
+    }
+
+    /**
+     * Returns the reader for a property of a type.
+     *
+     * @param type         Type of the bean.
+     * @param propertyName Name of the property.
+     * @return Reader of the property or <code>null</code> if the type has no such property.
+     * @throws IllegalArgumentException if the type cannot be introspected.
+     */
+    static PropertyReader find(final Class<?> type, final String propertyName) {
+        return READERS.get(type).get(propertyName);
+    }
+
+    private static Map<String, PropertyReader> introspect(final Class<?> type) {
+        try {
+            final Map<String, PropertyReader> readers = new HashMap<>();
+            for (final PropertyDescriptor property : Introspector.getBeanInfo(type).getPropertyDescriptors()) {
+                readers.put(property.getName(), toReader(property.getReadMethod()));
+            }
+            return unmodifiableMap(readers);
+        } catch (final IntrospectionException e) {
+            throw new IllegalArgumentException("Could not get property descriptors for " + type, e);
+        }
+    }
+
+    private static PropertyReader toReader(final Method readMethod) {
+        if (readMethod == null) {
+            return new PropertyReader(null, null);
+        }
+        try {
+            return new PropertyReader(readMethod,
+                    MethodHandles.publicLookup().unreflect(readMethod).asType(READ_METHOD_TYPE));
+        } catch (final IllegalAccessException e) {
+            // Getters of non public types can only be called the same way as Hamcrest does it
+            return new PropertyReader(readMethod, null);
+        }
+    }
+
+    boolean isReadable() {
+        return readMethod != null;
+    }
+
+    Method getReadMethod() {
+        return readMethod;
+    }
+
+    /**
+     * Reads the property of the given bean. Errors (e.g. an {@link OutOfMemoryError} or a failed assertion) are not
+     * a mismatch, so they are thrown as they are.
+     *
+     * @param bean Bean to read the property from.
+     * @return Value of the property.
+     * @throws InvocationTargetException if the getter throws an exception.
+     */
+    @SuppressWarnings("squid:S1181")
+    Object read(final Object bean) throws InvocationTargetException {
+        if (readHandle == null) {
+            return invokeReflective(bean);
+        }
+        try {
+            return readHandle.invokeExact(bean);
+        } catch (final Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    private Object invokeReflective(final Object bean) throws InvocationTargetException {
+        try {
+            return readMethod.invoke(bean);
+        } catch (final IllegalAccessException e) {
+            throw new IllegalStateException("Calling: '" + readMethod + "' should not have thrown " + e);
+        } catch (final InvocationTargetException e) {
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
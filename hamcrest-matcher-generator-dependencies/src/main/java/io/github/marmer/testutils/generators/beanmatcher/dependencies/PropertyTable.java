@@ -0,0 +1,48 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+/**
+ * Properties of a bean type, indexed by slot number. Generated matchers hold a table as static constant, so the
+ * getters of all properties are resolved once when the matcher class is initialized, and properties are added to a
+ * {@link BeanPropertyMatcher} by their slot instead of by their name. A property added by its slot is matched the same
+ * way as a property added with its name and getter.
+ *
+ * @param <T> Type of the bean.
+ */
+public final class PropertyTable<T> {
+
+    private final Class<? super T> beanType;
+    private final BeanProperty<T>[] properties;
+
+    private PropertyTable(final Class<? super T> beanType, final BeanProperty<T>[] properties) {
+        this.beanType = beanType;
+        this.properties = properties;
+    }
+
+    /**
+     * @param beanType   Type of the bean.
+     * @param properties Properties of the bean. The index of a property is its slot.
+     * @param <T>        Type of the bean.
+     * @return Table of the given properties.
+     */
+    @SafeVarargs
+    public static <T> PropertyTable<T> of(final Class<? super T> beanType, final BeanProperty<T>... properties) {
+        return new PropertyTable<>(beanType, properties.clone());
+    }
+
+    public Class<? super T> getBeanType() {
+        return beanType;
+    }
+
+    public int size() {
+        return properties.length;
+    }
+
+    /**
+     * @param slot Slot of the property.
+     * @return Property in the given slot.
+     * @throws IndexOutOfBoundsException if the table has no such slot.
+     */
+    public BeanProperty<T> get(final int slot) {
+        return properties[slot];
+    }
+}
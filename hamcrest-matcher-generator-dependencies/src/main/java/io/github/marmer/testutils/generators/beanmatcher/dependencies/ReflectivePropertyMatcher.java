@@ -0,0 +1,63 @@
+package io.github.marmer.testutils.generators.beanmatcher.dependencies;
+
+import java.lang.reflect.InvocationTargetException;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.SelfDescribing;
+
+/**
+ * Matcher for a single property which is looked up by its name. Behaves like Hamcrest's <code>hasProperty</code> but
+ * resolves the getter only once per bean type.
+ *
+ * @param <T> Type of the bean.
+ */
+class ReflectivePropertyMatcher<T> extends PropertyMatcher<T> {
+
+    private final String propertyName;
+    private final Matcher<?> valueMatcher;
+
+    ReflectivePropertyMatcher(final String propertyName, final Matcher<?> valueMatcher) {
+        super(Object.class);
+        this.propertyName = propertyName;
+        this.valueMatcher = valueMatcher;
+    }
+
+    @Override
+    SelfDescribing checkSafely(final T item) {
+        final PropertyReader reader = PropertyReader.find(item.getClass(), propertyName);
+        if (reader == null) {
+            return mismatchDescription -> mismatchDescription.appendText("No property \"" + propertyName + "\"");
+        }
+        if (!reader.isReadable()) {
+            return mismatchDescription -> mismatchDescription.appendText(
+                    "property \"" + propertyName + "\" is not readable");
+        }
+
+        final Object value;
+        try {
+            value = reader.read(item);
+        } catch (final InvocationTargetException e) {
+            return mismatchDescription -> mismatchDescription.appendText("Calling '")
+                    .appendText(reader.getReadMethod().toString())
+                    .appendText("': ")
+                    .appendValue(e.getTargetException().getMessage());
+        }
+
+        if (valueMatcher.matches(value)) {
+            return null;
+        }
+        return mismatchDescription -> {
+            appendPropertyPrefix(mismatchDescription, propertyName);
+            valueMatcher.describeMismatch(value, mismatchDescription);
+        };
+    }
+
+    @Override
+    public void describeTo(final Description description) {
+        description.appendText("hasProperty(")
+                .appendValue(propertyName)
+                .appendText(", ")
+                .appendDescriptionOf(valueMatcher)
+                .appendText(")");
+    }
+}
@@ -0,0 +1,137 @@
+package io.github.marmer.testutils.generators.beanmatcher.processing;
+
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.BulkMatchResult;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.FrozenBeanPropertyMatcher;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.Value;
+import org.hamcrest.StringDescription;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+/**
+ * Measures repeated matching of one {@link BeanPropertyMatcher} against the same kind of bean. Run it with the main
+ * method (or any JMH runner) and add <code>-prof gc</code> to see the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanPropertyMatcherBenchmark {
+    private BeanPropertyMatcher<SomeBean> matcher;
+    private SomeBean matchingBean;
+    private SomeBean notMatchingBean;
+    private BeanPropertyMatcher<SomeBean> boxingGetterMatcher;
+    private BeanPropertyMatcher<SomeBean> primitiveGetterMatcher;
+
+    @Setup
+    public void setUp() {
+        matcher = new BeanPropertyMatcher<SomeBean>(SomeBean.class)
+                .with("name", equalTo("someName"))
+                .with("count", greaterThan(5))
+                .with("active", equalTo(true));
+        matchingBean = new SomeBean("someName", 42, true);
+        notMatchingBean = new SomeBean("someOtherName", 42, true);
+        boxingGetterMatcher = new BeanPropertyMatcher<SomeBean>(SomeBean.class)
+                .with("count", SomeBean::getCount, equalTo(42))
+                .with("active", SomeBean::isActive, equalTo(true));
+        primitiveGetterMatcher = new BeanPropertyMatcher<SomeBean>(SomeBean.class)
+                .withInt("count", SomeBean::getCount, 42)
+                .withBoolean("active", SomeBean::isActive, true);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return matcher.matches(matchingBean);
+    }
+
+    @Benchmark
+    public boolean matchesNot() {
+        return matcher.matches(notMatchingBean);
+    }
+
+    @Benchmark
+    public boolean matchesBoxingGetters() {
+        return boxingGetterMatcher.matches(matchingBean);
+    }
+
+    @Benchmark
+    public boolean matchesPrimitiveGetters() {
+        return primitiveGetterMatcher.matches(matchingBean);
+    }
+
+    @Benchmark
+    public String describeTo() {
+        final StringDescription description = new StringDescription();
+        matcher.describeTo(description);
+        return description.toString();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public BulkMatchResult matchAllSequential(final ManyBeans manyBeans) {
+        return manyBeans.frozenMatcher.matchAll(manyBeans.beans, 10);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public BulkMatchResult matchAllInParallel(final ManyBeans manyBeans) {
+        return manyBeans.frozenMatcher.matchAllInParallel(manyBeans.beans, 10);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BeanPropertyMatcherBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    /**
+     * Bulk fixture, only set up for the benchmarks matching many beans at once, so the other benchmarks are not
+     * disturbed by its heap usage.
+     */
+    @State(Scope.Benchmark)
+    public static class ManyBeans {
+        private FrozenBeanPropertyMatcher<SomeBean> frozenMatcher;
+        private List<SomeBean> beans;
+
+        @Setup
+        public void setUp() {
+            frozenMatcher = new BeanPropertyMatcher<SomeBean>(SomeBean.class)
+                    .with("name", equalTo("someName"))
+                    .with("count", greaterThan(5))
+                    .with("active", equalTo(true))
+                    .freeze();
+            final SomeBean matchingBean = new SomeBean("someName", 42, true);
+            final SomeBean notMatchingBean = new SomeBean("someOtherName", 42, true);
+            beans = IntStream.range(0, 1_000_000)
+                    .mapToObj(i -> i == 999_999 ? notMatchingBean : matchingBean)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    @Value
+    public static class SomeBean {
+        private String name;
+        private int count;
+        private boolean active;
+    }
+}
@@ -1,7 +1,20 @@
 package io.github.marmer.testutils.generators.beanmatcher.processing;
 
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanProperty;
 import io.github.marmer.testutils.generators.beanmatcher.dependencies.BeanPropertyMatcher;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.BulkMatchResult;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.FrozenBeanPropertyMatcher;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.PropertyTable;
+import java.lang.ref.WeakReference;
+import java.util.AbstractList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import lombok.Value;
+import org.hamcrest.BaseMatcher;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
@@ -12,10 +25,17 @@ import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 
 class BeanPropertyMatcherTest {
     private static final String AND = " and ";
+    private static final PropertyTable<ClassWithPrimitiveProperties> PRIMITIVE_PROPERTIES = PropertyTable.of(
+            ClassWithPrimitiveProperties.class,
+            BeanProperty.ofInt("intProperty", ClassWithPrimitiveProperties::getIntProperty),
+            BeanProperty.ofLong("longProperty", ClassWithPrimitiveProperties::getLongProperty),
+            BeanProperty.ofDouble("doubleProperty", ClassWithPrimitiveProperties::getDoubleProperty),
+            BeanProperty.ofBoolean("booleanProperty", ClassWithPrimitiveProperties::isBooleanProperty));
 
     @Test
     void testMatches_OnlyWithMatchingTypeInitialized_ShouldNotMatchInstanceOfDifferentType()
@@ -268,6 +288,155 @@ class BeanPropertyMatcherTest {
         assertThat("matches", matches, is(false));
     }
 
+    @Test
+    void testMatches_PropertyAddedAfterFirstMatch_ShouldBeTakenIntoAccount()
+            throws Exception {
+        // Preparation
+        final BeanPropertyMatcher<ClassTwoProperties> classUnderTest =
+                new BeanPropertyMatcher<ClassTwoProperties>(ClassTwoProperties.class)
+                        .with("firstProperty", equalTo("firstPropertyValue"));
+        final ClassTwoProperties item = new ClassTwoProperties("firstPropertyValue", "secondPropertyValue");
+        classUnderTest.matches(item);
+
+        // Execution
+        final boolean matches = classUnderTest.with("secondProperty", equalTo("notMatchingValue"))
+                .matches(item);
+
+        // Assertion
+        assertThat("matches", matches, is(false));
+    }
+
+    @Test
+    void testDescribeMissmatch_PropertyGetterThrowsException_ShouldBeTheSameAsForHamcrestsHasProperty()
+            throws Exception {
+        // Preparation
+        final Matcher<String> propertyMatcher = equalTo("someValue");
+        final Matcher<ClassWithThrowingProperty> classUnderTest =
+                new BeanPropertyMatcher<ClassWithThrowingProperty>(ClassWithThrowingProperty.class)
+                        .with("throwingProperty", propertyMatcher);
+
+        final Description description = new StringDescription();
+        final ClassWithThrowingProperty modelClass = new ClassWithThrowingProperty();
+
+        // Execution
+        final boolean matches = classUnderTest.matches(modelClass);
+        classUnderTest.describeMismatch(modelClass, description);
+
+        // Assertion
+        assertThat("matches", matches, is(false));
+        assertThat(description.toString(),
+                is(equalTo(getHasPropertyMissmatchDescriptionFor(modelClass, "throwingProperty", propertyMatcher))));
+    }
+
+    @Test
+    void testMatches_GetterThrowsError_ErrorShouldBeThrown()
+            throws Exception {
+        // Preparation
+        final Matcher<ClassWithErrorThrowingProperty> classUnderTest =
+                new BeanPropertyMatcher<ClassWithErrorThrowingProperty>(ClassWithErrorThrowingProperty.class)
+                        .with("errorThrowingProperty", equalTo("someValue"));
+
+        // Execution
+        final AssertionError result = assertThrows(AssertionError.class,
+                () -> classUnderTest.matches(new ClassWithErrorThrowingProperty()));
+
+        // Assertion
+        assertThat(result.getMessage(), is("broken"));
+    }
+
+    @Test
+    void testDescribeMissmatch_PropertyNotReadable_ShouldBeTheSameAsForHamcrestsHasProperty()
+            throws Exception {
+        // Preparation
+        final Matcher<String> propertyMatcher = equalTo("someValue");
+        final Matcher<ClassWithWriteOnlyProperty> classUnderTest =
+                new BeanPropertyMatcher<ClassWithWriteOnlyProperty>(ClassWithWriteOnlyProperty.class)
+                        .with("writeOnlyProperty", propertyMatcher);
+
+        final Description description = new StringDescription();
+        final ClassWithWriteOnlyProperty modelClass = new ClassWithWriteOnlyProperty();
+
+        // Execution
+        final boolean matches = classUnderTest.matches(modelClass);
+        classUnderTest.describeMismatch(modelClass, description);
+
+        // Assertion
+        assertThat("matches", matches, is(false));
+        assertThat(description.toString(),
+                is(equalTo(getHasPropertyMissmatchDescriptionFor(modelClass, "writeOnlyProperty", propertyMatcher))));
+    }
+
+    @Test
+    void testMatches_InitializedWithGetterPropertyAndCalledWithMatchingProperty_ShouldMatch()
+            throws Exception {
+        // Preparation
+        final BeanPropertyMatcher<ClassWithSingleProperty> classUnderTest =
+                new BeanPropertyMatcher<ClassWithSingleProperty>(ClassWithSingleProperty.class);
+
+        // Execution
+        final boolean matches = classUnderTest
+                .with("someProperty", ClassWithSingleProperty::getSomeProperty, equalTo("someValue"))
+                .matches(new ClassWithSingleProperty("someValue"));
+
+        // Assertion
+        assertThat("matches", matches, is(true));
+    }
+
+    @Test
+    void testMatches_InitializedWithGetterPropertyAndCalledWithInstanceOfDifferentType_ShouldNotMatch()
+            throws Exception {
+        // Preparation
+        final BeanPropertyMatcher<ClassWithSingleProperty> classUnderTest =
+                new BeanPropertyMatcher<ClassWithSingleProperty>(ClassWithSingleProperty.class);
+
+        // Execution
+        final boolean matches = classUnderTest
+                .with("someProperty", ClassWithSingleProperty::getSomeProperty, equalTo("someValue"))
+                .matches(new AnotherClassWithSingleProperty("someValue"));
+
+        // Assertion
+        assertThat("matches", matches, is(false));
+    }
+
+    @Test
+    void testDescribeTo_InitializedWithGetterProperty_ShouldBeTheSameAsForDynamicProperty()
+            throws Exception {
+        // Preparation
+        final BeanPropertyMatcher<ClassWithSingleProperty> classUnderTest =
+                new BeanPropertyMatcher<ClassWithSingleProperty>(ClassWithSingleProperty.class);
+
+        final Description description = new StringDescription();
+
+        // Execution
+        classUnderTest.with("someProperty", ClassWithSingleProperty::getSomeProperty, equalTo("someValue"))
+                .describeTo(description);
+
+        // Assertion
+        assertThat("Matcher description Text",
+                description.toString(),
+                containsString(hasPropertyDescriptionText("someProperty", equalTo("someValue"))));
+    }
+
+    @Test
+    void testDescribeMissmatch_InitializedWithGetterPropertyNotMatching_ShouldBeTheSameAsForDynamicProperty()
+            throws Exception {
+        // Preparation
+        final Matcher<String> propertyMatcher = equalTo("expectedPropertyValue");
+        final Matcher<ClassWithSingleProperty> classUnderTest =
+                new BeanPropertyMatcher<ClassWithSingleProperty>(ClassWithSingleProperty.class)
+                        .with("someProperty", ClassWithSingleProperty::getSomeProperty, propertyMatcher);
+
+        final Description description = new StringDescription();
+        final ClassWithSingleProperty modelClass = new ClassWithSingleProperty("unexpectedPropertyValue");
+
+        // Execution
+        classUnderTest.describeMismatch(modelClass, description);
+
+        // Assertion
+        assertThat(description.toString(),
+                is(equalTo(getHasPropertyMissmatchDescriptionFor(modelClass, "someProperty", propertyMatcher))));
+    }
+
     @Test
     void testDescribeMissmatch_WrongTypeGiven_DescriptionShuoldContainTypeInformationOfGivenWrongType()
             throws Exception {
@@ -502,6 +671,601 @@ class BeanPropertyMatcherTest {
                                 propertyMissmatchDescriptionTextForNonMatching2)));
     }
 
+    @Test
+    void testMatchesAndDescribeMismatch_MismatchOfMatchedItemDescribed_EachPropertyShouldBeReadOnlyOnce()
+            throws Exception {
+        // Preparation
+        final ClassCountingPropertyReads item = new ClassCountingPropertyReads();
+        final BeanPropertyMatcher<ClassCountingPropertyReads> classUnderTest =
+                new BeanPropertyMatcher<ClassCountingPropertyReads>(ClassCountingPropertyReads.class)
+                        .with("firstProperty", equalTo("firstValue"))
+                        .with("secondProperty", equalTo("unexpectedValue"))
+                        .with("thirdProperty", equalTo("unexpectedValue"));
+        final Description description = new StringDescription();
+
+        // Execution
+        final boolean result = classUnderTest.matches(item);
+        classUnderTest.describeMismatch(item, description);
+
+        // Assertion
+        assertThat(result, is(false));
+        assertThat(item.firstPropertyReads, is(1));
+        assertThat(item.secondPropertyReads, is(1));
+        assertThat(item.thirdPropertyReads, is(1));
+        assertThat(description.toString(), is(equalTo(
+                " property 'secondProperty' was \"secondValue\" and  property 'thirdProperty' was \"thirdValue\"")));
+    }
+
+    @Test
+    void testDescribeMismatch_OtherItemThanLastMatchedGiven_ShouldDescribeTheOtherItem()
+            throws Exception {
+        // Preparation
+        final Matcher<ClassTwoProperties> classUnderTest =
+                new BeanPropertyMatcher<ClassTwoProperties>(ClassTwoProperties.class)
+                        .with("firstProperty", equalTo("expectedValue"));
+        classUnderTest.matches(new ClassTwoProperties("someValue", "anyValue"));
+        final Description description = new StringDescription();
+
+        // Execution
+        classUnderTest.describeMismatch(new ClassTwoProperties("otherValue", "anyValue"), description);
+
+        // Assertion
+        assertThat(description.toString(), is(equalTo(" property 'firstProperty' was \"otherValue\"")));
+    }
+
+    @Test
+    void testMatches_FailingItemNotReferencedAnymore_MatcherShouldNotKeepItAlive()
+            throws Exception {
+        // Preparation
+        final FrozenBeanPropertyMatcher<ClassTwoProperties> classUnderTest =
+                new BeanPropertyMatcher<ClassTwoProperties>(ClassTwoProperties.class)
+                        .with("firstProperty", equalTo("expectedValue"))
+                        .freeze();
+        final WeakReference<ClassTwoProperties> item =
+                new WeakReference<>(new ClassTwoProperties("someValue", "anyValue"));
+
+        // Execution
+        final boolean result = classUnderTest.matches(item.get());
+
+        // Assertion
+        assertThat(result, is(false));
+        for (int i = 0; i < 100 && item.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertThat(item.get(), is(nullValue()));
+    }
+
+    @Test
+    void testFreeze_PropertyAddedAfterFreeze_FrozenMatcherShouldNotBeAffected()
+            throws Exception {
+        // Preparation
+        final BeanPropertyMatcher<ClassWithSingleProperty> matcher =
+                new BeanPropertyMatcher<ClassWithSingleProperty>(ClassWithSingleProperty.class)
+                        .with("someProperty", equalTo("someValue"));
+
+        // Execution
+        final Matcher<ClassWithSingleProperty> classUnderTest = matcher.freeze();
+        matcher.with("someProperty", equalTo("otherValue"));
+
+        // Assertion
+        assertThat(new ClassWithSingleProperty("someValue"), classUnderTest);
+        assertThat(new ClassWithSingleProperty("someValue"), not(matcher));
+    }
+
+    @Test
+    void testFreeze_FreezeCalledTwiceWithoutChanges_ShouldReturnSameSnapshot()
+            throws Exception {
+        // Preparation
+        final BeanPropertyMatcher<ClassWithSingleProperty> classUnderTest =
+                new BeanPropertyMatcher<ClassWithSingleProperty>(ClassWithSingleProperty.class)
+                        .with("someProperty", equalTo("someValue"));
+
+        // Execution
+        final Matcher<ClassWithSingleProperty> result = classUnderTest.freeze();
+
+        // Assertion
+        assertThat(result, is(sameInstance(classUnderTest.freeze())));
+    }
+
+    @Test
+    void testFreeze_FrozenMatcherGiven_ShouldDescribeLikeTheMatcherItWasCreatedFrom()
+            throws Exception {
+        // Preparation
+        final BeanPropertyMatcher<ClassTwoProperties> matcher =
+                new BeanPropertyMatcher<ClassTwoProperties>(ClassTwoProperties.class)
+                        .with("firstProperty", equalTo("expectedValue1"))
+                        .with("secondProperty", equalTo("expectedValue2"));
+        final ClassTwoProperties item = new ClassTwoProperties("someValue1", "someValue2");
+        final Description expectedDescription = new StringDescription();
+        matcher.describeMismatch(item, expectedDescription);
+        final Description description = new StringDescription();
+
+        // Execution
+        matcher.freeze().describeMismatch(item, description);
+
+        // Assertion
+        assertThat(description.toString(), is(equalTo(expectedDescription.toString())));
+        assertThat(StringDescription.toString(matcher.freeze()), is(equalTo(StringDescription.toString(matcher))));
+    }
+
+    @Test
+    void testMatchAll_AllItemsMatch_ShouldReportNoFailures()
+            throws Exception {
+        // Preparation
+        final BeanPropertyMatcher<ClassWithSingleProperty> classUnderTest =
+                new BeanPropertyMatcher<ClassWithSingleProperty>(ClassWithSingleProperty.class)
+                        .with("someProperty", equalTo("someValue"));
+        final List<ClassWithSingleProperty> items = List.of(
+                new ClassWithSingleProperty("someValue"),
+                new ClassWithSingleProperty("someValue"));
+
+        // Execution
+        final BulkMatchResult result = classUnderTest.matchAll(items, 1);
+
+        // Assertion
+        assertThat(result.isMatching(), is(true));
+        assertThat(result.getCheckedItemCount(), is(2));
+        assertThat(result.getFailingIndices().length, is(0));
+        assertThat(StringDescription.toString(result), is(emptyString()));
+    }
+
+    @Test
+    void testMatchAll_MoreFailuresThanMaximumGiven_ShouldStopAtTheMaximumNumberOfFailures()
+            throws Exception {
+        // Preparation
+        final BeanPropertyMatcher<ClassWithSingleProperty> classUnderTest =
+                new BeanPropertyMatcher<ClassWithSingleProperty>(ClassWithSingleProperty.class)
+                        .with("someProperty", equalTo("someValue"));
+        final ClassWithSingleProperty[] items = {
+                new ClassWithSingleProperty("someValue"),
+                new ClassWithSingleProperty("otherValue1"),
+                new ClassWithSingleProperty("someValue"),
+                new ClassWithSingleProperty("otherValue3"),
+                new ClassWithSingleProperty("otherValue4")};
+
+        // Execution
+        final BulkMatchResult result = classUnderTest.matchAll(items, 2);
+
+        // Assertion
+        assertThat(result.isMatching(), is(false));
+        assertThat(result.getCheckedItemCount(), is(4));
+        assertThat(result.getFailingIndices(), is(new int[]{1, 3}));
+        assertThat(StringDescription.toString(result), is(equalTo(
+                "item 1:  property 'someProperty' was \"otherValue1\", " +
+                        "item 3:  property 'someProperty' was \"otherValue3\"")));
+    }
+
+    @Test
+    void testMatchAll_FailingItemGiven_ShouldDescribeItLikeDescribeMismatch()
+            throws Exception {
+        // Preparation
+        final BeanPropertyMatcher<ClassTwoProperties> classUnderTest =
+                new BeanPropertyMatcher<ClassTwoProperties>(ClassTwoProperties.class)
+                        .with("firstProperty", equalTo("expectedValue1"))
+                        .with("secondProperty", equalTo("expectedValue2"));
+        final ClassTwoProperties item = new ClassTwoProperties("someValue1", "someValue2");
+        final Description expectedDescription = new StringDescription();
+        classUnderTest.describeMismatch(item, expectedDescription);
+
+        // Execution
+        final BulkMatchResult result = classUnderTest.matchAll(List.of(item), 1);
+
+        // Assertion
+        assertThat(StringDescription.toString(result), is(equalTo("item 0: " + expectedDescription)));
+    }
+
+    @Test
+    void testMatchAll_MatchingItemsGiven_ShouldNotDescribeAnything()
+            throws Exception {
+        // Preparation
+        final Matcher<Object> notDescribableMatcher = new BaseMatcher<>() {
+            @Override
+            public boolean matches(final Object actual) {
+                return "someValue".equals(actual);
+            }
+
+            @Override
+            public void describeTo(final Description description) {
+                throw new AssertionError("Should not be described");
+            }
+
+            @Override
+            public void describeMismatch(final Object item, final Description description) {
+                throw new AssertionError("Should not be described");
+            }
+        };
+        final BeanPropertyMatcher<ClassWithSingleProperty> classUnderTest =
+                new BeanPropertyMatcher<ClassWithSingleProperty>(ClassWithSingleProperty.class)
+                        .with("someProperty", notDescribableMatcher);
+
+        // Execution
+        final BulkMatchResult result = classUnderTest.matchAll(List.of(
+                new ClassWithSingleProperty("someValue"),
+                new ClassWithSingleProperty("otherValue")), 5);
+
+        // Assertion
+        assertThat(result.getFailingIndices(), is(new int[]{1}));
+    }
+
+    @Test
+    void testMatchAll_NonPositiveMaximumNumberOfFailuresGiven_ShouldThrowException()
+            throws Exception {
+        // Preparation
+        final BeanPropertyMatcher<ClassWithSingleProperty> classUnderTest =
+                new BeanPropertyMatcher<>(ClassWithSingleProperty.class);
+
+        // Execution
+        final IllegalArgumentException result = assertThrows(IllegalArgumentException.class,
+                () -> classUnderTest.matchAll(List.of(), 0));
+
+        // Assertion
+        assertThat(result.getMessage(), is("maxFailures must be positive but was 0"));
+    }
+
+    @Test
+    void testMatchAllInParallel_LargeListGiven_ShouldReportTheSameFailuresAsSequentialMatching()
+            throws Exception {
+        // Preparation
+        final FrozenBeanPropertyMatcher<ClassWithSingleProperty> classUnderTest =
+                new BeanPropertyMatcher<ClassWithSingleProperty>(ClassWithSingleProperty.class)
+                        .with("someProperty", equalTo("someValue"))
+                        .freeze();
+        final List<ClassWithSingleProperty> items = IntStream.range(0, 50_000)
+                .mapToObj(i -> new ClassWithSingleProperty(i % 997 == 0 ? "otherValue" + i : "someValue"))
+                .collect(Collectors.toList());
+        final BulkMatchResult expectedResult = classUnderTest.matchAll(items, 20);
+        final ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            // Execution
+            final BulkMatchResult result = classUnderTest.matchAllInParallel(items, 20, pool);
+
+            // Assertion
+            assertThat(result.getFailingIndices(), is(expectedResult.getFailingIndices()));
+            assertThat(result.getCheckedItemCount(), is(expectedResult.getCheckedItemCount()));
+            assertThat(StringDescription.toString(result), is(equalTo(StringDescription.toString(expectedResult))));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testMatchAllInParallel_MaximumOfFailuresReached_FollowingItemsShouldNotBeMatched()
+            throws Exception {
+        // Preparation
+        final AtomicInteger matchedItems = new AtomicInteger();
+        final FrozenBeanPropertyMatcher<ClassWithSingleProperty> classUnderTest =
+                new BeanPropertyMatcher<ClassWithSingleProperty>(ClassWithSingleProperty.class)
+                        .with("someProperty", new BaseMatcher<String>() {
+                            @Override
+                            public boolean matches(final Object actual) {
+                                matchedItems.incrementAndGet();
+                                return "someValue".equals(actual);
+                            }
+
+                            @Override
+                            public void describeTo(final Description description) {
+                                description.appendText("someValue");
+                            }
+                        })
+                        .freeze();
+        final List<ClassWithSingleProperty> items = IntStream.range(0, 1_000_000)
+                .mapToObj(i -> new ClassWithSingleProperty(i == 0 ? "otherValue" : "someValue"))
+                .collect(Collectors.toList());
+
+        // Execution
+        final BulkMatchResult result = classUnderTest.matchAllInParallel(items, 1);
+
+        // Assertion
+        assertThat(result.getFailingIndices(), is(new int[]{0}));
+        assertThat(matchedItems.get(), is(lessThan(100_000)));
+    }
+
+    @Test
+    void testMatchAllInParallel_LessFailuresThanMaximumGiven_ShouldReportAllFailuresInOrder()
+            throws Exception {
+        // Preparation
+        final FrozenBeanPropertyMatcher<ClassWithSingleProperty> classUnderTest =
+                new BeanPropertyMatcher<ClassWithSingleProperty>(ClassWithSingleProperty.class)
+                        .with("someProperty", equalTo("someValue"))
+                        .freeze();
+        final List<ClassWithSingleProperty> items = IntStream.range(0, 10_000)
+                .mapToObj(i -> new ClassWithSingleProperty(i == 3 || i == 9_999 ? "otherValue" : "someValue"))
+                .collect(Collectors.toCollection(LinkedList::new));
+
+        // Execution
+        final BulkMatchResult result = classUnderTest.matchAllInParallel(items, 5);
+
+        // Assertion
+        assertThat(result.getFailingIndices(), is(new int[]{3, 9_999}));
+        assertThat(result.getCheckedItemCount(), is(10_000));
+    }
+
+    @Test
+    void testWithInt_NotMatchingValueGiven_ShouldDescribeLikeEqualTo()
+            throws Exception {
+        // Preparation
+        final ClassWithPrimitiveProperties item = new ClassWithPrimitiveProperties(42, 42L, 4.2, true);
+        final BeanPropertyMatcher<ClassWithPrimitiveProperties> classUnderTest =
+                new BeanPropertyMatcher<ClassWithPrimitiveProperties>(ClassWithPrimitiveProperties.class)
+                        .withInt("intProperty", ClassWithPrimitiveProperties::getIntProperty, 43);
+        final Matcher<ClassWithPrimitiveProperties> expectedMatcher =
+                new BeanPropertyMatcher<ClassWithPrimitiveProperties>(ClassWithPrimitiveProperties.class)
+                        .with("intProperty", equalTo(43));
+        final Description description = new StringDescription();
+        final Description expectedDescription = new StringDescription();
+
+        // Execution
+        final boolean result = classUnderTest.matches(item);
+        classUnderTest.describeMismatch(item, description);
+
+        // Assertion
+        expectedMatcher.describeMismatch(item, expectedDescription);
+        assertThat(result, is(false));
+        assertThat(description.toString(), is(equalTo(expectedDescription.toString())));
+        assertThat(StringDescription.toString(classUnderTest), is(equalTo(StringDescription.toString(expectedMatcher))));
+    }
+
+    @Test
+    void testWithPrimitives_MatchingValuesGiven_ShouldMatch()
+            throws Exception {
+        // Preparation
+        final BeanPropertyMatcher<ClassWithPrimitiveProperties> classUnderTest =
+                new BeanPropertyMatcher<ClassWithPrimitiveProperties>(ClassWithPrimitiveProperties.class)
+                        .withInt("intProperty", ClassWithPrimitiveProperties::getIntProperty, 42)
+                        .withIntBetween("intProperty", ClassWithPrimitiveProperties::getIntProperty, 42, 43)
+                        .withLong("longProperty", ClassWithPrimitiveProperties::getLongProperty, 42L)
+                        .withLongBetween("longProperty", ClassWithPrimitiveProperties::getLongProperty, 41L, 42L)
+                        .withDouble("doubleProperty", ClassWithPrimitiveProperties::getDoubleProperty, 4.2)
+                        .withDoubleBetween("doubleProperty", ClassWithPrimitiveProperties::getDoubleProperty, 4, 5)
+                        .withDoubleCloseTo("doubleProperty", ClassWithPrimitiveProperties::getDoubleProperty, 4, 0.25)
+                        .withBoolean("booleanProperty", ClassWithPrimitiveProperties::isBooleanProperty, true);
+
+        // Execution
+        final boolean result = classUnderTest.matches(new ClassWithPrimitiveProperties(42, 42L, 4.2, true));
+
+        // Assertion
+        assertThat(result, is(true));
+    }
+
+    @Test
+    void testWithDoubleCloseTo_ValueOutOfToleranceGiven_ShouldDescribeLikeCloseTo()
+            throws Exception {
+        // Preparation
+        final ClassWithPrimitiveProperties item = new ClassWithPrimitiveProperties(42, 42L, 4.5, true);
+        final BeanPropertyMatcher<ClassWithPrimitiveProperties> classUnderTest =
+                new BeanPropertyMatcher<ClassWithPrimitiveProperties>(ClassWithPrimitiveProperties.class)
+                        .withDoubleCloseTo("doubleProperty", ClassWithPrimitiveProperties::getDoubleProperty, 4, 0.25);
+        final Description description = new StringDescription();
+
+        // Execution
+        final boolean result = classUnderTest.matches(item);
+        classUnderTest.describeMismatch(item, description);
+
+        // Assertion
+        assertThat(result, is(false));
+        assertThat(description.toString(),
+                is(equalTo(" property 'doubleProperty' <4.5> differed by <0.25> more than delta <0.25>")));
+    }
+
+    @Test
+    void testWithIntBetween_ValueOutOfRangeGiven_ShouldNotMatch()
+            throws Exception {
+        // Preparation
+        final BeanPropertyMatcher<ClassWithPrimitiveProperties> classUnderTest =
+                new BeanPropertyMatcher<ClassWithPrimitiveProperties>(ClassWithPrimitiveProperties.class)
+                        .withIntBetween("intProperty", ClassWithPrimitiveProperties::getIntProperty, 0, 41);
+
+        // Execution
+        final boolean result = classUnderTest.matches(new ClassWithPrimitiveProperties(42, 42L, 4.2, true));
+
+        // Assertion
+        assertThat(result, is(false));
+        assertThat(StringDescription.toString(classUnderTest), containsString(
+                "hasProperty(\"intProperty\", (a value equal to or greater than <0> and a value less than or equal to <41>))"));
+    }
+
+    @Test
+    void testLimitDescriptionLength_HugePropertyValueGiven_MismatchDescriptionShouldBeTruncated()
+            throws Exception {
+        // Preparation
+        final ClassWithSingleProperty item = new ClassWithSingleProperty("x".repeat(100_000));
+        final BeanPropertyMatcher<ClassWithSingleProperty> classUnderTest =
+                new BeanPropertyMatcher<ClassWithSingleProperty>(ClassWithSingleProperty.class)
+                        .with("someProperty", equalTo("someValue"))
+                        .limitDescriptionLength(32);
+        final Description description = new StringDescription();
+
+        // Execution
+        classUnderTest.matches(item);
+        classUnderTest.describeMismatch(item, description);
+
+        // Assertion
+        assertThat(description.toString(), is(equalTo(" property 'someProperty' was \"xx...")));
+    }
+
+    @Test
+    void testLimitDescriptionLength_LimitReached_FollowingValuesShouldNotBeRendered()
+            throws Exception {
+        // Preparation
+        final ClassTwoProperties item = new ClassTwoProperties("x".repeat(100), "otherValue");
+        final Object notRenderableValue = new Object() {
+            @Override
+            public String toString() {
+                throw new AssertionError("Should not be rendered");
+            }
+        };
+        final BeanPropertyMatcher<ClassTwoProperties> classUnderTest =
+                new BeanPropertyMatcher<ClassTwoProperties>(ClassTwoProperties.class)
+                        .with("firstProperty", equalTo("someValue"))
+                        .with("secondProperty", equalTo(notRenderableValue))
+                        .limitDescriptionLength(50);
+        final Description description = new StringDescription();
+
+        // Execution
+        classUnderTest.describeTo(description);
+        classUnderTest.describeMismatch(item, description);
+
+        // Assertion
+        assertThat(description.toString(), endsWith("..."));
+    }
+
+    @Test
+    void testLimitDescriptionLength_HugeCollectionGiven_OnlyElementsWithinTheLimitShouldBeRendered()
+            throws Exception {
+        // Preparation
+        final AtomicInteger renderedElements = new AtomicInteger();
+        final List<Object> hugeList = new AbstractList<>() {
+            @Override
+            public Object get(final int index) {
+                renderedElements.incrementAndGet();
+                return index;
+            }
+
+            @Override
+            public int size() {
+                return 1_000_000;
+            }
+        };
+        final BeanPropertyMatcher<ClassWithSingleProperty> classUnderTest =
+                new BeanPropertyMatcher<ClassWithSingleProperty>(ClassWithSingleProperty.class)
+                        .with("someProperty", equalTo(hugeList))
+                        .limitDescriptionLength(200);
+
+        // Execution
+        final String result = StringDescription.toString(classUnderTest);
+
+        // Assertion
+        assertThat(result, allOf(containsString("hasProperty(\"someProperty\", <[0, 1, 2, 3"), endsWith("...")));
+        assertThat(renderedElements.get(), is(lessThan(50)));
+    }
+
+    @Test
+    void testLimitDescriptionLength_CollectionWithOwnToStringGiven_ShouldBeRenderedLikeByHamcrest()
+            throws Exception {
+        // Preparation
+        final List<String> listWithOwnToString = new LinkedList<>(List.of("first", "second")) {
+            @Override
+            public String toString() {
+                return "two elements";
+            }
+        };
+        final BeanPropertyMatcher<ClassWithSingleProperty> classUnderTest =
+                new BeanPropertyMatcher<ClassWithSingleProperty>(ClassWithSingleProperty.class)
+                        .with("someProperty", equalTo(listWithOwnToString));
+        final String expectedDescription = StringDescription.toString(classUnderTest);
+
+        // Execution
+        classUnderTest.limitDescriptionLength(1_000);
+
+        // Assertion
+        assertThat(StringDescription.toString(classUnderTest), is(equalTo(expectedDescription)));
+        assertThat(expectedDescription, containsString("<two elements>"));
+    }
+
+    @Test
+    void testLimitDescriptionLength_ShortDescriptionGiven_ShouldNotBeChanged()
+            throws Exception {
+        // Preparation
+        final BeanPropertyMatcher<ClassWithSingleProperty> classUnderTest =
+                new BeanPropertyMatcher<ClassWithSingleProperty>(ClassWithSingleProperty.class)
+                        .with("someProperty", equalTo("someValue"));
+        final String expectedDescription = StringDescription.toString(classUnderTest);
+
+        // Execution
+        classUnderTest.limitDescriptionLength(1_000);
+
+        // Assertion
+        assertThat(StringDescription.toString(classUnderTest), is(equalTo(expectedDescription)));
+    }
+
+    @Test
+    void testLimitDescriptionLength_NegativeLengthGiven_ShouldThrowException()
+            throws Exception {
+        // Preparation
+        final BeanPropertyMatcher<ClassWithSingleProperty> classUnderTest =
+                new BeanPropertyMatcher<>(ClassWithSingleProperty.class);
+
+        // Execution
+        final IllegalArgumentException result = assertThrows(IllegalArgumentException.class,
+                () -> classUnderTest.limitDescriptionLength(-1));
+
+        // Assertion
+        assertThat(result.getMessage(), is("maxLength must not be negative but was -1"));
+    }
+
+    @Test
+    void testWithSlot_PropertiesOfTableGiven_ShouldMatchLikePropertiesAddedByGetter()
+            throws Exception {
+        // Preparation
+        final ClassWithPrimitiveProperties item = new ClassWithPrimitiveProperties(42, 42L, 4.2, true);
+        final BeanPropertyMatcher<ClassWithPrimitiveProperties> classUnderTest =
+                new BeanPropertyMatcher<>(PRIMITIVE_PROPERTIES)
+                        .with(0, equalTo(42))
+                        .withInt(0, 42)
+                        .withIntBetween(0, 42, 43)
+                        .withLong(1, 42L)
+                        .withLongBetween(1, 41L, 42L)
+                        .withDouble(2, 4.2)
+                        .withDoubleBetween(2, 4, 5)
+                        .withDoubleCloseTo(2, 4, 0.25)
+                        .withBoolean(3, false);
+        final Matcher<ClassWithPrimitiveProperties> expectedMatcher =
+                new BeanPropertyMatcher<ClassWithPrimitiveProperties>(ClassWithPrimitiveProperties.class)
+                        .with("intProperty", ClassWithPrimitiveProperties::getIntProperty, equalTo(42))
+                        .withInt("intProperty", ClassWithPrimitiveProperties::getIntProperty, 42)
+                        .withIntBetween("intProperty", ClassWithPrimitiveProperties::getIntProperty, 42, 43)
+                        .withLong("longProperty", ClassWithPrimitiveProperties::getLongProperty, 42L)
+                        .withLongBetween("longProperty", ClassWithPrimitiveProperties::getLongProperty, 41L, 42L)
+                        .withDouble("doubleProperty", ClassWithPrimitiveProperties::getDoubleProperty, 4.2)
+                        .withDoubleBetween("doubleProperty", ClassWithPrimitiveProperties::getDoubleProperty, 4, 5)
+                        .withDoubleCloseTo("doubleProperty", ClassWithPrimitiveProperties::getDoubleProperty, 4, 0.25)
+                        .withBoolean("booleanProperty", ClassWithPrimitiveProperties::isBooleanProperty, false);
+        final Description description = new StringDescription();
+        final Description expectedDescription = new StringDescription();
+
+        // Execution
+        final boolean result = classUnderTest.matches(item);
+        classUnderTest.describeMismatch(item, description);
+
+        // Assertion
+        expectedMatcher.describeMismatch(item, expectedDescription);
+        assertThat(result, is(false));
+        assertThat(description.toString(), is(equalTo(expectedDescription.toString())));
+        assertThat(StringDescription.toString(classUnderTest), is(equalTo(StringDescription.toString(expectedMatcher))));
+    }
+
+    @Test
+    void testWithSlot_PrimitiveMatcherForPropertyOfOtherTypeGiven_ShouldThrowException()
+            throws Exception {
+        // Preparation
+        final BeanPropertyMatcher<ClassWithPrimitiveProperties> classUnderTest =
+                new BeanPropertyMatcher<>(PRIMITIVE_PROPERTIES);
+
+        // Execution
+        final IllegalArgumentException result = assertThrows(IllegalArgumentException.class,
+                () -> classUnderTest.withInt(1, 42));
+
+        // Assertion
+        assertThat(result.getMessage(), is("Property 'longProperty' is of type long and not int"));
+    }
+
+    @Test
+    void testWithSlot_MatcherWithoutPropertyTableGiven_ShouldThrowException()
+            throws Exception {
+        // Preparation
+        final BeanPropertyMatcher<ClassWithPrimitiveProperties> classUnderTest =
+                new BeanPropertyMatcher<>(ClassWithPrimitiveProperties.class);
+
+        // Execution
+        final IllegalStateException result = assertThrows(IllegalStateException.class,
+                () -> classUnderTest.with(0, equalTo(42)));
+
+        // Assertion
+        assertThat(result.getMessage(), is("Properties can only be added by slot to matchers with a property table"));
+    }
+
     private String getHasPropertyMissmatchDescriptionFor(final Object modelClass,
                                                          final String propertyName,
                                                          final Matcher<String> propertyMatcher) {
@@ -544,6 +1308,53 @@ class BeanPropertyMatcherTest {
         private String someProperty;
     }
 
+    public static class ClassWithThrowingProperty {
+        public String getThrowingProperty() {
+            throw new UnsupportedOperationException("not supported");
+        }
+    }
+
+    public static class ClassWithErrorThrowingProperty {
+        public String getErrorThrowingProperty() {
+            throw new AssertionError("broken");
+        }
+    }
+
+    public static class ClassWithWriteOnlyProperty {
+        public void setWriteOnlyProperty(final String value) {
+            // nothing to do here
+        }
+    }
+
+    public static class ClassCountingPropertyReads {
+        private int firstPropertyReads;
+        private int secondPropertyReads;
+        private int thirdPropertyReads;
+
+        public String getFirstProperty() {
+            firstPropertyReads++;
+            return "firstValue";
+        }
+
+        public String getSecondProperty() {
+            secondPropertyReads++;
+            return "secondValue";
+        }
+
+        public String getThirdProperty() {
+            thirdPropertyReads++;
+            return "thirdValue";
+        }
+    }
+
+    @Value
+    public static class ClassWithPrimitiveProperties {
+        private int intProperty;
+        private long longProperty;
+        private double doubleProperty;
+        private boolean booleanProperty;
+    }
+
     @Value
     public static class ClassTwoProperties {
         private String firstProperty;
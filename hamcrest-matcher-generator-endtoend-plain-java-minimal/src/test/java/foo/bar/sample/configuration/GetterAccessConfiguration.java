@@ -0,0 +1,18 @@
+package foo.bar.sample.configuration;
+
+
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.PackageConfiguration;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.PropertyAccess;
+
+@MatcherConfiguration(
+    value = "foo.bar.sample.model.SomePojo",
+    generation = @GenerationConfiguration(
+        packageConfig = @PackageConfiguration("getteraccess"),
+        propertyAccess = PropertyAccess.GETTER
+    )
+)
+public class GetterAccessConfiguration {
+
+}
@@ -1,5 +1,9 @@
 package foo.bar.sample.model;
 
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.BulkMatchResult;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.FrozenBeanPropertyMatcher;
+import java.util.List;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -12,6 +16,11 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 
 class SomePojoTest {
+    private static final FrozenBeanPropertyMatcher<SomePojo> FROZEN_MATCHER = isSomePojo()
+            .withPojoField("pojoFieldValue")
+            .withIntProperty(42)
+            .freeze();
+
     @Test
     @DisplayName("Generated matchers match properties as expected")
     void testMatchers_GeneratedMatchersMatchPropertiesAsExpected()
@@ -80,4 +89,63 @@ class SomePojoTest {
                 .withSomeField("42"));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Frozen matchers can be shared by parallel threads")
+    void testFreeze_FrozenMatchersCanBeSharedByParallelThreads()
+            throws Exception {
+        // Preparation
+        final SomePojo matchingPojo = new SomePojo();
+        matchingPojo.setPojoField("pojoFieldValue");
+        matchingPojo.setIntProperty(42);
+        final SomePojo notMatchingPojo = new SomePojo();
+        notMatchingPojo.setPojoField("otherValue");
+        notMatchingPojo.setIntProperty(42);
+
+        // Execution
+        final long matchCount = IntStream.range(0, 10_000)
+                .parallel()
+                .filter(i -> FROZEN_MATCHER.matches(i % 2 == 0 ? matchingPojo : notMatchingPojo))
+                .count();
+
+        // Assertion
+        assertThat(matchCount, is(5_000L));
+    }
+
+    @Test
+    @DisplayName("Generated matchers report the failing items of a collection")
+    void testMatchAll_GeneratedMatchersReportTheFailingItemsOfACollection()
+            throws Exception {
+        // Preparation
+        final SomePojo matchingPojo = new SomePojo();
+        matchingPojo.setPojoField("pojoFieldValue");
+        final SomePojo notMatchingPojo = new SomePojo();
+        notMatchingPojo.setPojoField("otherValue");
+
+        // Execution
+        final BulkMatchResult result = isSomePojo()
+                .withPojoField("pojoFieldValue")
+                .matchAll(List.of(matchingPojo, notMatchingPojo, matchingPojo, notMatchingPojo), 10);
+
+        // Assertion
+        assertThat(result.getFailingIndices(), is(new int[]{1, 3}));
+    }
+
+    @Test
+    @DisplayName("Generated matchers report the failing items of an array")
+    void testMatchAll_GeneratedMatchersReportTheFailingItemsOfAnArray()
+            throws Exception {
+        // Preparation
+        final SomePojo matchingPojo = new SomePojo();
+        matchingPojo.setPojoField("pojoFieldValue");
+        final SomePojo notMatchingPojo = new SomePojo();
+        notMatchingPojo.setPojoField("otherValue");
+
+        // Execution
+        final BulkMatchResult result = isSomePojo()
+                .withPojoField("pojoFieldValue")
+                .matchAll(new SomePojo[]{notMatchingPojo, matchingPojo, notMatchingPojo}, 1);
+
+        // Assertion
+        assertThat(result.getFailingIndices(), is(new int[]{0}));
+    }
+}
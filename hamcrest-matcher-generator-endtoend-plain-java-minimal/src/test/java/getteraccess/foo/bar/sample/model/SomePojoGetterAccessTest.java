@@ -0,0 +1,67 @@
+package getteraccess.foo.bar.sample.model;
+
+import foo.bar.sample.model.SomePojo;
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static getteraccess.foo.bar.sample.model.SomePojoMatcher.isSomePojo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+class SomePojoGetterAccessTest {
+    @Test
+    @DisplayName("Matchers generated with getter access match properties as expected")
+    void testMatchers_GeneratedMatchersWithGetterAccessMatchPropertiesAsExpected()
+            throws Exception {
+        // Preparation
+        final SomePojo somePojo = new SomePojo();
+        somePojo.setPojoField("pojoFieldValue");
+        somePojo.setParentField("someParentFieldValue");
+        somePojo.setIntProperty(42);
+
+        // Assertion
+        assertThat(somePojo, isSomePojo()
+                .withClass(SomePojo.class)
+                .withParentField("someParentFieldValue")
+                .withParentField(is(equalTo("someParentFieldValue")))
+                .withPojoField("pojoFieldValue")
+                .withPojoField(is(equalTo("pojoFieldValue")))
+                .withIntProperty(42)
+                .withIntProperty(is(42))
+        );
+    }
+
+    @Test
+    @DisplayName("Matchers generated with getter access describe mismatches like reflective ones")
+    void testMatchers_GeneratedMatchersWithGetterAccessDescribeMismatchesLikeReflectiveOnes()
+            throws Exception {
+        // Preparation
+        final SomePojo somePojo = new SomePojo();
+        somePojo.setPojoField("pojoFieldValue");
+        final StringDescription description = new StringDescription();
+
+        // Execution
+        isSomePojo()
+                .withPojoField("otherValue")
+                .describeMismatch(somePojo, description);
+
+        // Assertion
+        assertThat(description.toString(), is(" property 'pojoField' was \"pojoFieldValue\""));
+    }
+
+    @Test
+    @DisplayName("Matchers generated with getter access compare primitive properties within ranges")
+    void testMatchers_GeneratedMatchersWithGetterAccessComparePrimitivePropertiesWithinRanges()
+            throws Exception {
+        // Preparation
+        final SomePojo somePojo = new SomePojo();
+        somePojo.setIntProperty(42);
+
+        // Assertion
+        assertThat(somePojo, isSomePojo().withIntPropertyBetween(40, 42));
+        assertThat(somePojo, not(isSomePojo().withIntPropertyBetween(43, 50)));
+    }
+}
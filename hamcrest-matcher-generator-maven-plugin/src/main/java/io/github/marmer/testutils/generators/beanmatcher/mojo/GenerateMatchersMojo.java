@@ -0,0 +1,85 @@
+package io.github.marmer.testutils.generators.beanmatcher.mojo;
+
+import io.github.marmer.annotationprocessing.StandaloneGenerationResult;
+import io.github.marmer.annotationprocessing.StandaloneMatcherGenerator;
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.PropertyAccess;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Generates matchers for compiled classes of the project and its dependencies without annotation processing, e.g. for
+ * types of third party jars. The generated sources are added to the test sources of the project.
+ */
+@Mojo(name = "generate",
+        defaultPhase = LifecyclePhase.GENERATE_TEST_SOURCES,
+        requiresDependencyResolution = ResolutionScope.TEST,
+        threadSafe = true)
+public class GenerateMatchersMojo extends AbstractMojo {
+
+    /**
+     * Package names, package patterns and full qualified class names to generate matchers for, like for
+     * <code>@MatcherConfiguration</code>.
+     */
+    @Parameter(required = true)
+    private List<String> packages;
+
+    /**
+     * Base package of the generated matchers.
+     */
+    @Parameter(defaultValue = "")
+    private String basePackage;
+
+    /**
+     * How generated matchers read the properties of the matched beans.
+     */
+    @Parameter(defaultValue = "REFLECTION")
+    private PropertyAccess propertyAccess;
+
+    /**
+     * Generation date of the generated matchers. <code>none</code> to omit it or an ISO-8601 date time to fix it. The
+     * current time is used by default.
+     */
+    @Parameter
+    private String timestamp;
+
+    @Parameter(defaultValue = "${project.build.directory}/generated-test-sources/matchers", required = true)
+    private File outputDirectory;
+
+    @Parameter(defaultValue = "${project.testClasspathElements}", readonly = true, required = true)
+    private List<String> classpathElements;
+
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    private MavenProject project;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        final StandaloneGenerationResult result;
+        try {
+            result = new StandaloneMatcherGenerator(
+                    classpathElements.stream().map(Paths::get).collect(Collectors.toList()),
+                    outputDirectory.toPath(),
+                    basePackage == null ? "" : basePackage,
+                    propertyAccess,
+                    StandaloneMatcherGenerator.timeStampFor(timestamp)
+            ).generate(packages);
+        } catch (final IllegalArgumentException e) {
+            throw new MojoExecutionException(e.getMessage(), e);
+        } catch (final IOException e) {
+            throw new MojoExecutionException("Matchers could not be written to " + outputDirectory, e);
+        }
+
+        result.getWarnings().forEach(getLog()::warn);
+        getLog().info("Generated " + result.getGeneratedFiles().size() + " matchers in " + outputDirectory);
+        project.addTestCompileSourceRoot(outputDirectory.getAbsolutePath());
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.marmer.testutils.generators.beanmatcher.mojo;
+
+import io.github.marmer.testutils.generators.beanmatcher.dependencies.MatcherConfiguration.GenerationConfiguration.PropertyAccess;
+import io.github.marmer.testutils.generators.beanmatcher.mojo.sample.SamplePojo;
+import java.io.File;
+import java.lang.reflect.Field;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GenerateMatchersMojoTest {
+    private static final String SAMPLE_PACKAGE = SamplePojo.class.getPackage().getName();
+
+    @TempDir
+    Path outputDirectory;
+
+    private final GenerateMatchersMojo underTest = new GenerateMatchersMojo();
+    private final MavenProject project = new MavenProject();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        set("packages", Collections.singletonList(SAMPLE_PACKAGE));
+        set("basePackage", "");
+        set("propertyAccess", PropertyAccess.REFLECTION);
+        set("timestamp", "none");
+        set("outputDirectory", outputDirectory.toFile());
+        set("classpathElements", Collections.singletonList(testClassesDirectory()));
+        set("project", project);
+    }
+
+    @Test
+    void testExecute_PackageConfigured_MatchersShouldBeGeneratedIntoTheOutputDirectory() throws Exception {
+        // Execution
+        underTest.execute();
+
+        // Assertion
+        assertThat(Files.exists(matcherSourceOf("SamplePojoMatcher")), is(true));
+    }
+
+    @Test
+    void testExecute_MatchersGenerated_OutputDirectoryShouldBeAddedAsTestSourceRoot() throws Exception {
+        // Execution
+        underTest.execute();
+
+        // Assertion
+        assertThat(project.getTestCompileSourceRoots(), contains(outputDirectory.toFile().getAbsolutePath()));
+    }
+
+    @Test
+    void testExecute_TimestampGiven_TimestampShouldBeUsedAsGenerationDate() throws Exception {
+        // Preparation
+        set("timestamp", "2021-06-01T12:00");
+
+        // Execution
+        underTest.execute();
+
+        // Assertion
+        assertThat(Files.readString(matcherSourceOf("SamplePojoMatcher")), containsString("date = \"2021-06-01T12:00\""));
+    }
+
+    @Test
+    void testExecute_InvalidTimestamp_ExecutionShouldFail() throws Exception {
+        // Preparation
+        set("timestamp", "yesterday");
+
+        // Execution
+        final MojoExecutionException exception = assertThrows(MojoExecutionException.class, underTest::execute);
+
+        // Assertion
+        assertThat(exception.getMessage(), containsString("Invalid timestamp 'yesterday'"));
+    }
+
+    private Path matcherSourceOf(final String simpleName) {
+        return outputDirectory.resolve(SAMPLE_PACKAGE.replace('.', File.separatorChar)).resolve(simpleName + ".java");
+    }
+
+    private static String testClassesDirectory() throws URISyntaxException {
+        return Paths.get(SamplePojo.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+    }
+
+    private void set(final String fieldName, final Object value) throws ReflectiveOperationException {
+        final Field field = GenerateMatchersMojo.class.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(underTest, value);
+    }
+}
@@ -0,0 +1,13 @@
+package io.github.marmer.testutils.generators.beanmatcher.mojo.sample;
+
+public class SamplePojo {
+    private String name;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(final String name) {
+        this.name = name;
+    }
+}